@@ -1,11 +1,18 @@
 package com.box.sdk;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,10 +26,14 @@ import java.util.Map;
 abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
     protected static final String BOUNDARY = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
     private static final BoxLogger LOGGER = BoxLogger.defaultLogger();
-    private static final int BUFFER_SIZE = 8192;
+    private static final String FILE_ENDED_MESSAGE =
+        "The file ended before all of its expected contents were uploaded.";
     private final StringBuilder loggedRequest = new StringBuilder();
     private final Map<String, String> fields = new HashMap<>();
     private InputStream inputStream;
+    private Path filePath;
+    private FileChannel fileChannel;
+    private long filePosition;
     private String filename;
     private long fileSize;
     private OutputStream outputStream;
@@ -42,6 +53,8 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
      */
     public void setFile(InputStream inputStream, String filename) {
         this.inputStream = inputStream;
+        this.filePath = null;
+        this.fileChannel = null;
         this.filename = filename;
     }
 
@@ -57,6 +70,37 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
         this.fileSize = fileSize;
     }
 
+    /**
+     * Sets the file contents of this request to a local file. The file is opened each time the request is sent and
+     * read with positional reads, so the request can be retried without having to reset a stream.
+     *
+     * @param file     the path of the file to upload.
+     * @param filename the name of the file.
+     * @throws IOException if the size of the file can't be read.
+     */
+    public void setFile(Path file, String filename) throws IOException {
+        this.setFile((InputStream) null, filename);
+        this.filePath = file;
+        this.filePosition = 0;
+        this.fileSize = Files.size(file);
+    }
+
+    /**
+     * Sets the file contents of this request to the region of a FileChannel between its current position and its end.
+     * The channel is read with positional reads, so its position isn't changed and the request can be retried without
+     * having to reset a stream. The channel isn't closed by this request.
+     *
+     * @param channel  a channel containing the file contents.
+     * @param filename the name of the file.
+     * @throws IOException if the position or size of the channel can't be read.
+     */
+    public void setFile(FileChannel channel, String filename) throws IOException {
+        this.setFile((InputStream) null, filename);
+        this.fileChannel = channel;
+        this.filePosition = channel.position();
+        this.fileSize = channel.size() - this.filePosition;
+    }
+
     /**
      * Adds or updates a multipart field in this request.
      *
@@ -122,6 +166,18 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * This method is unsupported in BoxMultipartRequest. Instead, the body should be modified via the {@code putField}
+     * and {@code setFile} methods.
+     *
+     * @param body N/A
+     * @throws UnsupportedOperationException this method is unsupported.
+     */
+    @Override
+    public void setBody(byte[] body) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void writeBody(HttpURLConnection connection, ProgressListener listener) {
         try {
@@ -142,11 +198,12 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
                 fileContentsOutputStream = new ProgressOutputStream(this.outputStream, listener, this.fileSize);
             }
             if (this.inputStream != null) {
-                byte[] buffer = new byte[BUFFER_SIZE];
-                int n = this.inputStream.read(buffer);
-                while (n != -1) {
-                    fileContentsOutputStream.write(buffer, 0, n);
-                    n = this.inputStream.read(buffer);
+                copyStream(this.inputStream, fileContentsOutputStream);
+            } else if (this.fileChannel != null) {
+                this.writeFileRegion(this.fileChannel, fileContentsOutputStream);
+            } else if (this.filePath != null) {
+                try (FileChannel channel = FileChannel.open(this.filePath, StandardOpenOption.READ)) {
+                    this.writeFileRegion(channel, fileContentsOutputStream);
                 }
             } else {
                 this.callback.writeToStream(this.outputStream);
@@ -170,7 +227,9 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
     @Override
     protected void resetBody() throws IOException {
         this.firstBoundary = true;
-        this.inputStream.reset();
+        if (this.inputStream != null) {
+            this.inputStream.reset();
+        }
         this.loggedRequest.setLength(0);
     }
 
@@ -179,6 +238,39 @@ abstract class AbstractBoxMultipartRequest extends BoxAPIRequest {
         return this.loggedRequest.toString();
     }
 
+    private void writeFileRegion(FileChannel channel, OutputStream output) throws IOException {
+        long position = this.filePosition;
+        long end = this.filePosition + this.fileSize;
+        if (output instanceof WritableByteChannel) {
+            // The transport exposes a channel, so let the OS move the bytes without copying them through the heap.
+            while (position < end) {
+                long n = channel.transferTo(position, end - position, (WritableByteChannel) output);
+                if (n == 0 && position >= channel.size()) {
+                    throw new EOFException(FILE_ENDED_MESSAGE);
+                }
+                position += n;
+            }
+            return;
+        }
+
+        byte[] buffer = BODY_BUFFER_POOL.acquire();
+        try {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            while (position < end) {
+                byteBuffer.clear();
+                byteBuffer.limit((int) Math.min(buffer.length, end - position));
+                int n = channel.read(byteBuffer, position);
+                if (n == -1) {
+                    throw new EOFException(FILE_ENDED_MESSAGE);
+                }
+                output.write(buffer, 0, n);
+                position += n;
+            }
+        } finally {
+            BODY_BUFFER_POOL.release(buffer);
+        }
+    }
+
     private void writeBoundary() throws IOException {
         if (!this.firstBoundary) {
             this.writeOutput("\r\n");
@@ -0,0 +1,45 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.eclipsesource.json.ParseException;
+
+/**
+ * Reads the access token information that Box Developer Edition connections store in an {@link IAccessTokenCache}.
+ */
+final class AccessTokenCacheInfo {
+    /**
+     * The expiry time of access token information that doesn't have one.
+     */
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private AccessTokenCacheInfo() {
+    }
+
+    /**
+     * Reads the time at which the access token in access token information expires, from its "lastRefresh" and
+     * "expires" fields.
+     *
+     * @param value the access token information.
+     * @return the expiry time in milliseconds since the epoch, or {@link #NO_EXPIRY} if the information doesn't have
+     * one.
+     */
+    static long expiryTime(String value) {
+        if (value == null) {
+            return NO_EXPIRY;
+        }
+
+        try {
+            JsonObject json = Json.parse(value).asObject();
+            JsonValue lastRefresh = json.get("lastRefresh");
+            JsonValue expires = json.get("expires");
+            if (lastRefresh == null || expires == null || !lastRefresh.isNumber() || !expires.isNumber()) {
+                return NO_EXPIRY;
+            }
+            return lastRefresh.asLong() + expires.asLong();
+        } catch (ParseException | UnsupportedOperationException e) {
+            return NO_EXPIRY;
+        }
+    }
+}
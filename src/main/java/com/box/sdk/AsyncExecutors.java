@@ -0,0 +1,76 @@
+package com.box.sdk;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the shared executors used when sending requests asynchronously and when refreshing access tokens.
+ *
+ * <p>The executors are created lazily and use daemon threads, so they never keep the JVM alive. The retry scheduler
+ * only hands retries back to a request executor once their backoff delay has elapsed; it never performs I/O itself.</p>
+ */
+final class AsyncExecutors {
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Gets the executor used to send asynchronous requests for connections that haven't set their own executor.
+     *
+     * @return the default executor for asynchronous requests.
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Gets the scheduler used to delay retries of asynchronous requests.
+     *
+     * @return the scheduler for retrying asynchronous requests.
+     */
+    static ScheduledExecutorService retryScheduler() {
+        return RetrySchedulerHolder.SCHEDULER;
+    }
+
+    /**
+     * Gets the executor used to refresh access tokens before they expire.
+     *
+     * @return the executor for background token refreshes.
+     */
+    static Executor tokenRefreshExecutor() {
+        return TokenRefreshExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Creates a thread factory for daemon threads whose names start with a prefix followed by a counter.
+     *
+     * @param prefix the prefix of the thread names.
+     * @return the thread factory.
+     */
+    static ThreadFactory daemonThreadFactory(final String prefix) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class DefaultExecutorHolder {
+        private static final ExecutorService EXECUTOR =
+            Executors.newCachedThreadPool(daemonThreadFactory("box-async-request-"));
+    }
+
+    private static final class TokenRefreshExecutorHolder {
+        private static final ExecutorService EXECUTOR =
+            Executors.newCachedThreadPool(daemonThreadFactory("box-token-refresh-"));
+    }
+
+    private static final class RetrySchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("box-async-retry-"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Reads and writes small text files, such as checkpoints and journals, that may be read back after a crash or by
+ * another process while they're being replaced.
+ */
+final class AtomicFiles {
+    private AtomicFiles() {
+    }
+
+    /**
+     * Reads a file as UTF-8 text.
+     *
+     * @param path the path of the file.
+     * @return the contents of the file, or null if it doesn't exist.
+     * @throws IOException if the file exists but can't be read.
+     */
+    static String read(Path path) throws IOException {
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes UTF-8 text to a file, replacing its previous contents atomically where the file system allows it. The text
+     * is written to a temporary file next to it first, so readers never see a partly written file.
+     *
+     * @param path     the path of the file.
+     * @param contents the text to write.
+     * @throws IOException if the file can't be written.
+     */
+    static void write(Path path, String contents) throws IOException {
+        Path absolutePath = path.toAbsolutePath();
+        // Every writer uses its own temporary file, since other threads or processes may be writing the same file.
+        Path temporary = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, contents.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temporary, absolutePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+}
@@ -28,6 +28,15 @@ class BackoffCounter {
     }
 
     public void waitBackoff(int delay) throws InterruptedException {
+        this.logBackoff(delay);
+        this.time.waitDuration(delay);
+    }
+
+    public int getNextDelay() {
+        return this.calculateDelay();
+    }
+
+    public void logBackoff(int delay) {
         if (LOGGER.isWarnEnabled()) {
             LOGGER.warn(String.format(
                 "Backing off for %d seconds before retrying %d more time%s.",
@@ -37,7 +46,6 @@ class BackoffCounter {
             ));
 
         }
-        this.time.waitDuration(delay);
     }
 
     public boolean decrement() {
@@ -2,7 +2,6 @@ package com.box.sdk;
 
 import com.box.sdk.http.HttpHeaders;
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -104,7 +103,7 @@ public class BatchAPIRequest extends BoxJSONRequest {
      */
     @Deprecated
     protected List<BoxAPIResponse> parseResponse(BoxJSONResponse batchResponse) {
-        JsonObject responseJSON = Json.parse(batchResponse.getJSON()).asObject();
+        JsonObject responseJSON = batchResponse.getJsonObject();
         List<BoxAPIResponse> responses = new ArrayList<>();
         Iterator<JsonValue> responseIterator = responseJSON.get("responses").asArray().iterator();
         while (responseIterator.hasNext()) {
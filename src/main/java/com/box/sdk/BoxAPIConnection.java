@@ -14,6 +14,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Pattern;
@@ -68,6 +71,12 @@ public class BoxAPIConnection {
      */
     private static final long REFRESH_EPSILON = 60000;
 
+    /**
+     * The amount of time, in milliseconds, to wait before trying again after a background refresh of the access token
+     * has failed.
+     */
+    private static final long BACKGROUND_REFRESH_RETRY_DELAY = 10000;
+
     private final String clientID;
     private final String clientSecret;
     private final ReadWriteLock refreshLock;
@@ -76,26 +85,35 @@ public class BoxAPIConnection {
     // the double-checked lock in getAccessToken(), they must be atomic.
     private volatile long lastRefresh;
     private volatile long expires;
+    private volatile long backgroundRefreshWindow;
+    private volatile long backgroundRefreshRetryTime;
+    private final AtomicBoolean backgroundRefreshPending = new AtomicBoolean();
 
     private Proxy proxy;
     private String proxyUsername;
     private String proxyPassword;
 
     private String userAgent;
-    private String accessToken;
+    // The access token is read without a lock by every request, so it's published through a volatile field.
+    private volatile String accessToken;
     private String refreshToken;
     private String tokenURL;
     private String revokeURL;
     private String baseURL;
     private String baseUploadURL;
+    private String versionedBaseURL;
+    private String versionedBaseUploadURL;
     private String baseAppURL;
     private String baseAuthorizationURL;
     private boolean autoRefresh;
     private int maxRetryAttempts;
     private int connectTimeout;
     private int readTimeout;
+    private boolean lazyInfoDecoding;
     private final List<BoxAPIConnectionListener> listeners;
     private RequestInterceptor interceptor;
+    private HttpTransport httpTransport;
+    private Executor asyncExecutor;
     private final Map<String, String> customHeaders;
 
     /**
@@ -121,7 +139,9 @@ public class BoxAPIConnection {
         this.accessToken = accessToken;
         this.refreshToken = refreshToken;
         this.baseURL = fixBaseUrl(DEFAULT_BASE_URL);
+        this.versionedBaseURL = this.baseURL + API_VERSION + "/";
         this.baseUploadURL = fixBaseUrl(DEFAULT_BASE_UPLOAD_URL);
+        this.versionedBaseUploadURL = this.baseUploadURL + API_VERSION + "/";
         this.baseAppURL = DEFAULT_BASE_APP_URL;
         this.baseAuthorizationURL = DEFAULT_BASE_AUTHORIZATION_URL;
         this.autoRefresh = true;
@@ -132,6 +152,8 @@ public class BoxAPIConnection {
         this.userAgent = "Box Java SDK v" + SDK_VERSION + " (Java " + JAVA_VERSION + ")";
         this.listeners = new ArrayList<>();
         this.customHeaders = new HashMap<>();
+        this.httpTransport = DefaultHttpTransport.INSTANCE;
+        this.asyncExecutor = AsyncExecutors.defaultExecutor();
     }
 
     /**
@@ -235,9 +257,7 @@ public class BoxAPIConnection {
         request.setBody(urlParameters);
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        String json = response.getJSON();
-
-        JsonObject jsonObject = Json.parse(json).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         this.accessToken = jsonObject.get("access_token").asString();
         this.refreshToken = jsonObject.get("refresh_token").asString();
         this.lastRefresh = System.currentTimeMillis();
@@ -338,7 +358,7 @@ public class BoxAPIConnection {
      * @return the base URL.
      */
     public String getBaseURL() {
-        return this.baseURL + API_VERSION + "/";
+        return this.versionedBaseURL;
     }
 
     /**
@@ -350,6 +370,8 @@ public class BoxAPIConnection {
      */
     public void setBaseURL(String baseURL) {
         this.baseURL = fixBaseUrl(baseURL);
+        // Every request URL starts with this prefix, so it's built once rather than on each request.
+        this.versionedBaseURL = this.baseURL + API_VERSION + "/";
     }
 
     /**
@@ -359,7 +381,7 @@ public class BoxAPIConnection {
      * @return the base upload URL.
      */
     public String getBaseUploadURL() {
-        return this.baseUploadURL + API_VERSION + "/";
+        return this.versionedBaseUploadURL;
     }
 
     /**
@@ -369,6 +391,7 @@ public class BoxAPIConnection {
      */
     public void setBaseUploadURL(String baseUploadURL) {
         this.baseUploadURL = fixBaseUrl(baseUploadURL);
+        this.versionedBaseUploadURL = this.baseUploadURL + API_VERSION + "/";
     }
 
     /**
@@ -440,17 +463,7 @@ public class BoxAPIConnection {
      * @return a valid access token that can be used to authenticate an API request.
      */
     public String getAccessToken() {
-        if (this.autoRefresh && this.canRefresh() && this.needsRefresh()) {
-            this.refreshLock.writeLock().lock();
-            try {
-                if (this.needsRefresh()) {
-                    this.refresh();
-                }
-            } finally {
-                this.refreshLock.writeLock().unlock();
-            }
-        }
-
+        this.refreshIfNeeded();
         return this.accessToken;
     }
 
@@ -529,6 +542,32 @@ public class BoxAPIConnection {
         this.autoRefresh = autoRefresh;
     }
 
+    /**
+     * Gets how long before it expires the access token is refreshed in the background. Defaults to 0, meaning that the
+     * access token is only refreshed once it has expired.
+     *
+     * @return the background refresh window in milliseconds.
+     * @see #setBackgroundRefreshWindow(long)
+     */
+    public long getBackgroundRefreshWindow() {
+        return this.backgroundRefreshWindow;
+    }
+
+    /**
+     * Sets how long before it expires the access token is refreshed in the background.
+     *
+     * <p>Without a window, the access token is refreshed by the first request that finds it expired, and other
+     * requests wait for that refresh. With a window, the first request made within the window before the token
+     * expires starts a refresh on a background thread and, like every other request, carries on with the current
+     * token. Requests only wait for a refresh if the token expires before the background refresh completes. Only
+     * connections with automatic refreshing enabled are refreshed in the background.</p>
+     *
+     * @param milliseconds the background refresh window in milliseconds, or 0 to disable background refreshes.
+     */
+    public void setBackgroundRefreshWindow(long milliseconds) {
+        this.backgroundRefreshWindow = milliseconds;
+    }
+
     /**
      * Sets the total maximum number of times an API request will be tried when error responses
      * are received.
@@ -611,6 +650,31 @@ public class BoxAPIConnection {
         this.readTimeout = readTimeout;
     }
 
+    /**
+     * Gets whether item infos and events created by this connection decode their fields lazily. Defaults to false.
+     *
+     * @return true if item infos and events decode their fields when they're first accessed; otherwise false.
+     * @see #setLazyInfoDecoding(boolean)
+     */
+    public boolean getLazyInfoDecoding() {
+        return this.lazyInfoDecoding;
+    }
+
+    /**
+     * Enables or disables lazy decoding of {@link BoxItem.Info} objects, such as file, folder and web link infos, and
+     * of {@link BoxEvent} objects.
+     *
+     * <p>When enabled, an info or an event keeps the JSON returned by the API and decodes each field, such as a date
+     * or a nested user, the first time it's read. This saves work when many items or events are read but only a few
+     * of their fields are used. Errors in a field are then reported by the getter that reads it instead of by the
+     * request that returned the item or event. Defaults to false.</p>
+     *
+     * @param lazyInfoDecoding true to decode item info and event fields lazily; otherwise false.
+     */
+    public void setLazyInfoDecoding(boolean lazyInfoDecoding) {
+        this.lazyInfoDecoding = lazyInfoDecoding;
+    }
+
     /**
      * Gets the proxy value to use for API calls to Box.
      *
@@ -681,15 +745,12 @@ public class BoxAPIConnection {
      * @return true if the access token needs to be refreshed; otherwise false.
      */
     public boolean needsRefresh() {
-        boolean needsRefresh;
-
-        this.refreshLock.readLock().lock();
-        long now = System.currentTimeMillis();
-        long tokenDuration = (now - this.lastRefresh);
-        needsRefresh = (tokenDuration >= this.expires - REFRESH_EPSILON);
-        this.refreshLock.readLock().unlock();
+        return this.expiresWithin(REFRESH_EPSILON);
+    }
 
-        return needsRefresh;
+    private boolean expiresWithin(long milliseconds) {
+        long tokenDuration = System.currentTimeMillis() - this.lastRefresh;
+        return tokenDuration >= this.expires - milliseconds;
     }
 
     /**
@@ -717,11 +778,11 @@ public class BoxAPIConnection {
 
         BoxAPIRequest request = createTokenRequest(url);
 
-        String json;
+        JsonObject jsonObject;
         try {
             BoxAPIResponse boxAPIResponse = request.send();
             BoxJSONResponse response = (BoxJSONResponse) boxAPIResponse;
-            json = response.getJSON();
+            jsonObject = response.getJsonObject();
         } catch (BoxAPIException e) {
             this.refreshLock.writeLock().unlock();
             this.notifyError(e);
@@ -729,7 +790,7 @@ public class BoxAPIConnection {
         }
 
         try {
-            extractTokens(Json.parse(json).asObject());
+            extractTokens(jsonObject);
 
             this.notifyRefresh();
         } finally {
@@ -852,6 +913,45 @@ public class BoxAPIConnection {
         this.interceptor = interceptor;
     }
 
+    /**
+     * Gets the HttpTransport used to open connections for requests sent with this API connection.
+     *
+     * @return the HttpTransport used by this API connection.
+     */
+    public HttpTransport getHttpTransport() {
+        return this.httpTransport;
+    }
+
+    /**
+     * Sets the HttpTransport used to open connections for requests sent with this API connection. Passing null
+     * restores the {@link DefaultHttpTransport}.
+     *
+     * @param httpTransport the HttpTransport to use for requests sent with this API connection.
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+        this.httpTransport = httpTransport == null ? DefaultHttpTransport.INSTANCE : httpTransport;
+    }
+
+    /**
+     * Gets the Executor on which asynchronous requests sent with this API connection are run.
+     *
+     * @return the Executor used for asynchronous requests.
+     */
+    public Executor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Sets the Executor on which asynchronous requests sent with this API connection are run. Backoff delays between
+     * retries are scheduled on a timer and don't occupy a thread of this executor. Passing null restores the default
+     * executor, which is shared by every connection and uses daemon threads.
+     *
+     * @param asyncExecutor the Executor to use for asynchronous requests.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor == null ? AsyncExecutors.defaultExecutor() : asyncExecutor;
+    }
+
     /**
      * Get a lower-scoped token restricted to a resource for the list of scopes that are passed.
      *
@@ -903,16 +1003,15 @@ public class BoxAPIConnection {
         request.shouldAuthenticate(false);
         request.setBody(urlParameters);
 
-        String jsonResponse;
+        JsonObject jsonObject;
         try {
             BoxJSONResponse response = (BoxJSONResponse) request.send();
-            jsonResponse = response.getJSON();
+            jsonObject = response.getJsonObject();
         } catch (BoxAPIException e) {
             this.notifyError(e);
             throw e;
         }
 
-        JsonObject jsonObject = Json.parse(jsonResponse).asObject();
         ScopedToken token = new ScopedToken(jsonObject);
         token.setObtainedAt(System.currentTimeMillis());
         token.setExpiresIn(jsonObject.get("expires_in").asLong() * 1000);
@@ -1020,25 +1119,75 @@ public class BoxAPIConnection {
     }
 
     String lockAccessToken() {
-        if (this.autoRefresh && this.canRefresh() && this.needsRefresh()) {
+        // Requests don't hold a lock while they're sent. The token is only read once, so a refresh that completes
+        // while a request is being sent doesn't affect it, and other requests don't wait for a refresh unless the token
+        // has expired.
+        this.refreshIfNeeded();
+        return this.accessToken;
+    }
+
+    void unlockAccessToken() {
+    }
+
+    /**
+     * Refreshes the access token on the calling thread if it has expired, or starts refreshing it in the background if
+     * it expires within the background refresh window.
+     */
+    private void refreshIfNeeded() {
+        if (!this.autoRefresh || !this.canRefresh()) {
+            return;
+        }
+
+        if (this.needsRefresh()) {
             this.refreshLock.writeLock().lock();
             try {
                 if (this.needsRefresh()) {
                     this.refresh();
                 }
-                this.refreshLock.readLock().lock();
             } finally {
                 this.refreshLock.writeLock().unlock();
             }
-        } else {
-            this.refreshLock.readLock().lock();
+        } else if (this.isInBackgroundRefreshWindow()
+            && System.currentTimeMillis() >= this.backgroundRefreshRetryTime) {
+            this.refreshInBackground();
         }
+    }
 
-        return this.accessToken;
+    private boolean isInBackgroundRefreshWindow() {
+        long window = this.backgroundRefreshWindow;
+        return window > 0 && this.expiresWithin(REFRESH_EPSILON + window);
     }
 
-    void unlockAccessToken() {
-        this.refreshLock.readLock().unlock();
+    private void refreshInBackground() {
+        // Only one background refresh runs at a time for a connection, however many requests find the token about to
+        // expire.
+        if (!this.backgroundRefreshPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            AsyncExecutors.tokenRefreshExecutor().execute(() -> {
+                try {
+                    this.refreshLock.writeLock().lock();
+                    try {
+                        if (this.isInBackgroundRefreshWindow()) {
+                            this.refresh();
+                        }
+                    } finally {
+                        this.refreshLock.writeLock().unlock();
+                    }
+                } catch (RuntimeException e) {
+                    // Listeners have already been notified of errors returned by the API. If the token expires before a
+                    // later background refresh succeeds, the request that finds it expired refreshes it and reports
+                    // the error.
+                    this.backgroundRefreshRetryTime = System.currentTimeMillis() + BACKGROUND_REFRESH_RETRY_DELAY;
+                } finally {
+                    this.backgroundRefreshPending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.backgroundRefreshPending.set(false);
+        }
     }
 
     /**
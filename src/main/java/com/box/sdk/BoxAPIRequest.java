@@ -2,6 +2,7 @@ package com.box.sdk;
 
 import com.box.sdk.http.HttpHeaders;
 import com.box.sdk.http.HttpMethod;
+import com.box.sdk.internal.pool.ByteArrayPool;
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.io.ByteArrayInputStream;
@@ -12,16 +13,15 @@ import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLParameters;
-import javax.net.ssl.SSLSocketFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -32,7 +32,8 @@ import javax.net.ssl.SSLSocketFactory;
  * to Box's API. Requests will be authenticated using a {@link BoxAPIConnection} (if one is provided), so it isn't
  * necessary to add authorization headers. Requests can also be sent more than once, unlike with HttpURLConnection. If
  * an error occurs while sending a request, it will be automatically retried (with a back off delay) up to the maximum
- * number of times set in the BoxAPIConnection.</p>
+ * number of times set in the BoxAPIConnection. The underlying connections are opened by the BoxAPIConnection's {@link
+ * HttpTransport}.</p>
  *
  * <p>Specifying a body for a BoxAPIRequest is done differently than it is with HttpURLConnection. Instead of writing to
  * an OutputStream, the request is provided an {@link InputStream} which will be read when the {@link #send} method is
@@ -41,57 +42,14 @@ import javax.net.ssl.SSLSocketFactory;
  * convenience method for specifying the body as a String, which simply wraps the String with an InputStream.</p>
  */
 public class BoxAPIRequest {
+    /**
+     * Transfer buffers shared by every request that copies a streamed body to its connection.
+     */
+    static final ByteArrayPool BODY_BUFFER_POOL = new ByteArrayPool(64 * 1024, 64);
+
     private static final BoxLogger LOGGER = BoxLogger.defaultLogger();
     private static final int MAX_REDIRECTS = 3;
     private static final String ERROR_CREATING_REQUEST_BODY = "Error creating request body";
-    private static SSLSocketFactory sslSocketFactory;
-
-    static {
-        // Setup the SSL context manually to force newer TLS version on legacy Java environments
-        // This is necessary because Java 7 uses TLSv1.0 by default, but the Box API will need
-        // to deprecate this protocol in the future.  To prevent clients from breaking, we must
-        // ensure that they are using TLSv1.1 or greater!
-        SSLContext sc = null;
-        try {
-            sc = SSLContext.getDefault();
-            SSLParameters params = sc.getDefaultSSLParameters();
-            boolean supportsNewTLS = false;
-            for (String protocol : params.getProtocols()) {
-                if (protocol.compareTo("TLSv1") > 0) {
-                    supportsNewTLS = true;
-                    break;
-                }
-            }
-            if (!supportsNewTLS) {
-                // Try to upgrade to a higher TLS version
-                sc = null;
-                sc = SSLContext.getInstance("TLSv1.1");
-                sc.init(null, null, new java.security.SecureRandom());
-                sc = SSLContext.getInstance("TLSv1.2");
-                sc.init(null, null, new java.security.SecureRandom());
-            }
-        } catch (NoSuchAlgorithmException ex) {
-            if (sc == null) {
-                LOGGER.error("Unable to set up SSL context for HTTPS! "
-                    + "This may result in the inability  to connect to the Box API.");
-            }
-            if (sc != null && sc.getProtocol().equals("TLSv1")) {
-                // Could not find a good version of TLS
-                LOGGER.error("Using deprecated TLSv1 protocol, which will be deprecated by the Box API! "
-                    + "Upgrade to a newer version of Java as soon as possible.");
-            }
-        } catch (KeyManagementException ex) {
-            LOGGER.error(
-                "Exception when initializing SSL Context!  This may result in the inabilty to connect to the Box API"
-            );
-            sc = null;
-        }
-
-        if (sc != null) {
-            sslSocketFactory = sc.getSocketFactory();
-        }
-
-    }
 
     private final BoxAPIConnection api;
     private final List<RequestHeader> headers;
@@ -101,6 +59,9 @@ public class BoxAPIRequest {
     private int connectTimeout;
     private int readTimeout;
     private InputStream body;
+    private byte[] bodyBytes;
+    private int bodyOffset;
+    private ByteBuffer bodyBuffer;
     private long bodyLength;
     private Map<String, List<String>> requestProperties;
     private int numRedirects;
@@ -302,6 +263,8 @@ public class BoxAPIRequest {
      * @param stream an InputStream containing the contents of the body.
      */
     public void setBody(InputStream stream) {
+        this.bodyBytes = null;
+        this.bodyBuffer = null;
         this.body = stream;
     }
 
@@ -314,9 +277,52 @@ public class BoxAPIRequest {
      * @param body a String containing the contents of the body.
      */
     public void setBody(String body) {
-        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
-        this.bodyLength = bytes.length;
-        this.body = new ByteArrayInputStream(bytes);
+        this.setBody(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sets the request body to the contents of a byte array.
+     *
+     * <p>The array is written to the connection directly without being copied, so it shouldn't be modified until the
+     * request has been sent. A request with a byte array body can always be retried.</p>
+     *
+     * @param body a byte array containing the contents of the body.
+     */
+    public void setBody(byte[] body) {
+        this.setBody(body, 0, body.length);
+    }
+
+    /**
+     * Sets the request body to a region of a byte array.
+     *
+     * <p>See {@link #setBody(byte[])} for more information on setting the body of the request from a byte array.</p>
+     *
+     * @param body   a byte array containing the contents of the body.
+     * @param offset the index of the first byte of the body in the array.
+     * @param length the number of bytes in the body.
+     */
+    public void setBody(byte[] body, int offset, int length) {
+        this.bodyBytes = body;
+        this.bodyOffset = offset;
+        this.bodyBuffer = null;
+        this.bodyLength = length;
+        this.body = new ByteArrayInputStream(body, offset, length);
+    }
+
+    /**
+     * Sets the request body to the remaining contents of a ByteBuffer.
+     *
+     * <p>The buffer's position and limit aren't changed, and its contents aren't copied until they are written to the
+     * connection, so a direct or memory-mapped buffer can be sent without first being read into the heap. A request
+     * with a ByteBuffer body can always be retried.</p>
+     *
+     * @param body a ByteBuffer containing the contents of the body between its position and limit.
+     */
+    public void setBody(ByteBuffer body) {
+        this.bodyBytes = null;
+        this.bodyBuffer = body.duplicate();
+        this.bodyLength = body.remaining();
+        this.body = new ByteBufferInputStream(body.duplicate());
     }
 
     /**
@@ -331,10 +337,25 @@ public class BoxAPIRequest {
      * @param length the expected length of the stream.
      */
     public void setBody(InputStream stream, long length) {
+        this.bodyBytes = null;
+        this.bodyBuffer = null;
         this.bodyLength = length;
         this.body = stream;
     }
 
+    /**
+     * Removes the body of this request and records the length of a body that a subclass writes itself in
+     * {@link #writeBody}, so that the request is still sent with a fixed length.
+     *
+     * @param length the number of bytes that writeBody will write.
+     */
+    void setWrittenBodyLength(long length) {
+        this.body = null;
+        this.bodyBytes = null;
+        this.bodyBuffer = null;
+        this.bodyLength = length;
+    }
+
     /**
      * Gets the URL from the request.
      *
@@ -451,13 +472,7 @@ public class BoxAPIRequest {
                 }
 
                 try {
-                    List<String> retryAfterHeader = apiException.getHeaders().get("Retry-After");
-                    if (retryAfterHeader == null) {
-                        this.backoffCounter.waitBackoff();
-                    } else {
-                        int retryAfterDelay = Integer.parseInt(retryAfterHeader.get(0)) * 1000;
-                        this.backoffCounter.waitBackoff(retryAfterDelay);
-                    }
+                    this.backoffCounter.waitBackoff(this.getRetryDelay(apiException));
                 } catch (InterruptedException interruptedException) {
                     Thread.currentThread().interrupt();
                     throw apiException;
@@ -468,6 +483,46 @@ public class BoxAPIRequest {
         throw new RuntimeException();
     }
 
+    /**
+     * Sends this request asynchronously and returns a future that completes with the server's response.
+     *
+     * <p>See {@link #sendAsync(ProgressListener)} for more information on sending requests asynchronously.</p>
+     *
+     * @return a future that completes with a {@link BoxAPIResponse} containing the server's response.
+     */
+    public CompletableFuture<BoxAPIResponse> sendAsync() {
+        return this.sendAsync(null);
+    }
+
+    /**
+     * Sends this request asynchronously while monitoring its progress and returns a future that completes with the
+     * server's response.
+     *
+     * <p>The request is sent on the executor returned by {@link BoxAPIConnection#getAsyncExecutor}. Failed attempts
+     * are retried in the same way as {@link #send(ProgressListener)}, except that the backoff delay is scheduled on a
+     * timer instead of blocking a thread. If the maximum number of retries is reached and an error still occurs, then
+     * the returned future completes exceptionally with a {@link BoxAPIException}.</p>
+     *
+     * <p>A request shouldn't be sent again until the future returned by a previous call has completed.</p>
+     *
+     * @param listener a listener for monitoring the progress of the request.
+     * @return a future that completes with a {@link BoxAPIResponse} containing the server's response.
+     */
+    public CompletableFuture<BoxAPIResponse> sendAsync(ProgressListener listener) {
+        Executor executor;
+        if (this.api == null) {
+            this.backoffCounter.reset(BoxGlobalSettings.getMaxRetryAttempts() + 1);
+            executor = AsyncExecutors.defaultExecutor();
+        } else {
+            this.backoffCounter.reset(this.api.getMaxRetryAttempts() + 1);
+            executor = this.api.getAsyncExecutor();
+        }
+
+        CompletableFuture<BoxAPIResponse> result = new CompletableFuture<>();
+        this.trySendAsync(executor, listener, result);
+        return result;
+    }
+
     /**
      * Sends a request to upload a file part and returns a BoxFileUploadSessionPart containing information
      * about the upload part. This method is separate from send() because it has custom retry logic.
@@ -491,7 +546,7 @@ public class BoxAPIRequest {
         while (this.backoffCounter.getAttemptsRemaining() > 0) {
             try {
                 BoxJSONResponse response = (BoxJSONResponse) this.trySend(null);
-                JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+                JsonObject jsonObject = response.getJsonObject();
                 return new BoxFileUploadSessionPart((JsonObject) jsonObject.get("part"));
             } catch (BoxAPIException apiException) {
                 if (!this.backoffCounter.decrement()
@@ -618,10 +673,12 @@ public class BoxAPIRequest {
             if (listener != null) {
                 output = new ProgressOutputStream(output, listener, this.bodyLength);
             }
-            int b = this.body.read();
-            while (b != -1) {
-                output.write(b);
-                b = this.body.read();
+            if (this.bodyBytes != null) {
+                writeBytes(this.bodyBytes, this.bodyOffset, (int) this.bodyLength, output, listener != null);
+            } else if (this.bodyBuffer != null) {
+                writeBuffer(this.bodyBuffer.duplicate(), output, listener != null);
+            } else {
+                copyStream(this.body, output);
             }
             output.close();
         } catch (IOException e) {
@@ -629,6 +686,62 @@ public class BoxAPIRequest {
         }
     }
 
+    /**
+     * Copies the remaining contents of an InputStream to an OutputStream using a pooled transfer buffer. Each buffer
+     * is written with a single call, so a wrapping {@link ProgressOutputStream} reports progress once per buffer.
+     *
+     * @param input  the stream to read from.
+     * @param output the stream to write to.
+     * @throws IOException if reading or writing fails.
+     */
+    static void copyStream(InputStream input, OutputStream output) throws IOException {
+        byte[] buffer = BODY_BUFFER_POOL.acquire();
+        try {
+            int n = input.read(buffer);
+            while (n != -1) {
+                output.write(buffer, 0, n);
+                n = input.read(buffer);
+            }
+        } finally {
+            BODY_BUFFER_POOL.release(buffer);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, int offset, int length, OutputStream output, boolean reportProgress)
+        throws IOException {
+        if (!reportProgress) {
+            output.write(bytes, offset, length);
+            return;
+        }
+
+        // Write in buffer-sized slices so that progress is still reported while a large body is sent.
+        int sliceSize = BODY_BUFFER_POOL.getBufferSize();
+        int end = offset + length;
+        for (int sliceStart = offset; sliceStart < end; sliceStart += sliceSize) {
+            output.write(bytes, sliceStart, Math.min(sliceSize, end - sliceStart));
+        }
+    }
+
+    private static void writeBuffer(ByteBuffer buffer, OutputStream output, boolean reportProgress)
+        throws IOException {
+        if (buffer.hasArray()) {
+            writeBytes(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), output,
+                reportProgress);
+            return;
+        }
+
+        byte[] chunk = BODY_BUFFER_POOL.acquire();
+        try {
+            while (buffer.hasRemaining()) {
+                int n = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, n);
+                output.write(chunk, 0, n);
+            }
+        } finally {
+            BODY_BUFFER_POOL.release(chunk);
+        }
+    }
+
     /**
      * Resets the InputStream containing this request's body.
      *
@@ -647,6 +760,62 @@ public class BoxAPIRequest {
         this.backoffCounter = counter;
     }
 
+    private void trySendAsync(Executor executor, ProgressListener listener, CompletableFuture<BoxAPIResponse> result) {
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(this.trySend(listener));
+                } catch (BoxAPIException apiException) {
+                    this.retryAsync(executor, listener, result, apiException);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new BoxAPIException("Couldn't schedule the request to the Box API.", e));
+        }
+    }
+
+    private void retryAsync(Executor executor, ProgressListener listener, CompletableFuture<BoxAPIResponse> result,
+                            BoxAPIException apiException) {
+        if (!this.backoffCounter.decrement()
+            || (!isRequestRetryable(apiException)
+            && !isResponseRetryable(apiException.getResponseCode(), apiException))) {
+            result.completeExceptionally(apiException);
+            return;
+        }
+
+        LOGGER.warn(
+            String.format("Retrying request due to transient error status=%d body=%s",
+                apiException.getResponseCode(),
+                apiException.getResponse())
+        );
+
+        try {
+            this.resetBody();
+        } catch (IOException ioException) {
+            result.completeExceptionally(apiException);
+            return;
+        }
+
+        int delay = this.getRetryDelay(apiException);
+        this.backoffCounter.logBackoff(delay);
+        try {
+            AsyncExecutors.retryScheduler().schedule(
+                () -> this.trySendAsync(executor, listener, result), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(apiException);
+        }
+    }
+
+    private int getRetryDelay(BoxAPIException apiException) {
+        List<String> retryAfterHeader = apiException.getHeaders().get("Retry-After");
+        if (retryAfterHeader == null) {
+            return this.backoffCounter.getNextDelay();
+        }
+        return Integer.parseInt(retryAfterHeader.get(0)) * 1000;
+    }
+
     private BoxAPIResponse trySend(ProgressListener listener) {
         if (this.api != null) {
             RequestInterceptor interceptor = this.api.getRequestInterceptor();
@@ -660,16 +829,8 @@ public class BoxAPIRequest {
 
         HttpURLConnection connection = this.createConnection();
 
-        if (connection instanceof HttpsURLConnection) {
-            HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
-
-            if (sslSocketFactory != null) {
-                httpsConnection.setSSLSocketFactory(sslSocketFactory);
-            }
-        }
-
         if (this.bodyLength > 0) {
-            connection.setFixedLengthStreamingMode((int) this.bodyLength);
+            connection.setFixedLengthStreamingMode(this.bodyLength);
             connection.setDoOutput(true);
         }
 
@@ -790,10 +951,10 @@ public class BoxAPIRequest {
         HttpURLConnection connection;
 
         try {
-            if (this.api == null || this.api.getProxy() == null) {
-                connection = (HttpURLConnection) this.url.openConnection();
+            if (this.api == null) {
+                connection = DefaultHttpTransport.INSTANCE.openConnection(this.url, null);
             } else {
-                connection = (HttpURLConnection) this.url.openConnection(this.api.getProxy());
+                connection = this.api.getHttpTransport().openConnection(this.url, this.api.getProxy());
             }
         } catch (IOException e) {
             throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
@@ -859,4 +1020,54 @@ public class BoxAPIRequest {
             return this.value;
         }
     }
+
+    /**
+     * An InputStream over the remaining contents of a ByteBuffer, which can be reset to the buffer's initial position.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.buffer.mark();
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            this.buffer.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            this.buffer.reset();
+        }
+    }
 }
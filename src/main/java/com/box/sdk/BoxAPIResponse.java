@@ -204,6 +204,15 @@ public class BoxAPIResponse {
         return this.inputStream;
     }
 
+    /**
+     * Determines whether this response was created from a connection, rather than from a response code and body.
+     *
+     * @return true if this response has a connection from which its body can be read.
+     */
+    boolean hasConnection() {
+        return this.connection != null;
+    }
+
     /**
      * Disconnects this response from the server and frees up any network resources. The body of this response can no
      * longer be read after it has been disconnected.
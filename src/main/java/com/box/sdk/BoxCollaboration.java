@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -118,7 +117,7 @@ public class BoxCollaboration extends BoxResource {
 
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxCollaboration newCollaboration = new BoxCollaboration(api, responseJSON.get("id").asString());
         return newCollaboration.new Info(responseJSON);
@@ -135,7 +134,7 @@ public class BoxCollaboration extends BoxResource {
 
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int entriesCount = responseJSON.get("total_count").asInt();
         Collection<BoxCollaboration.Info> collaborations = new ArrayList<>(entriesCount);
@@ -188,7 +187,7 @@ public class BoxCollaboration extends BoxResource {
 
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject);
     }
 
@@ -205,7 +204,7 @@ public class BoxCollaboration extends BoxResource {
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     /**
@@ -223,7 +222,7 @@ public class BoxCollaboration extends BoxResource {
 
         if (boxAPIResponse instanceof BoxJSONResponse) {
             BoxJSONResponse response = (BoxJSONResponse) boxAPIResponse;
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
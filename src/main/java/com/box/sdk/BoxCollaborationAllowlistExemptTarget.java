@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -63,7 +62,7 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
 
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         BoxCollaborationAllowlistExemptTarget userAllowlist = new BoxCollaborationAllowlistExemptTarget(api,
             responseJSON.get("id").asString());
 
@@ -122,7 +121,7 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, HttpMethod.GET);
         BoxJSONResponse response = (BoxJSONResponse) request.send();
 
-        return new Info(Json.parse(response.getJSON()).asObject());
+        return new Info(response.getJsonObject());
     }
 
     /**
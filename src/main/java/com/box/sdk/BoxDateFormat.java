@@ -9,8 +9,20 @@ import java.util.TimeZone;
 
 /**
  * Contains methods for parsing and formatting dates for use with the Box API.
+ *
+ * <p>Dates in the layouts used by the Box API, such as "2019-04-06T15:57:01-07:00" or "2019-04-06T22:57:01.123Z", are
+ * parsed and formatted in a single pass without a {@link DateFormat}. Other strings are still handled by
+ * {@link SimpleDateFormat}, so they're parsed as leniently as before.</p>
  */
 public final class BoxDateFormat {
+    private static final long NOT_PARSED = Long.MIN_VALUE;
+    private static final int MIN_YEAR = 1600;
+    private static final int MAX_YEAR = 9999;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final long MIN_FAST_MILLIS = daysFromCivil(MIN_YEAR, 1, 1) * MILLIS_PER_DAY;
+    private static final long MAX_FAST_MILLIS = daysFromCivil(MAX_YEAR + 1, 1, 1) * MILLIS_PER_DAY;
+
     private static final ThreadLocal<DateFormat> THREAD_LOCAL_DATE_FORMAT_SECONDS = ThreadLocal.withInitial(() -> {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssX");
         sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
@@ -40,10 +52,37 @@ public final class BoxDateFormat {
      * @throws ParseException if the string cannot be parsed into a valid date.
      */
     public static Date parse(String dateString) throws ParseException {
+        return new Date(parseEpochMillis(dateString));
+    }
+
+    /**
+     * Parses a date string returned by the Box API into an {@link Instant}.
+     *
+     * @param dateString a string containing the date.
+     * @return the parsed instant.
+     * @throws ParseException if the string cannot be parsed into a valid date.
+     */
+    public static Instant parseInstant(String dateString) throws ParseException {
+        return Instant.ofEpochMilli(parseEpochMillis(dateString));
+    }
+
+    /**
+     * Parses a date string returned by the Box API into the number of milliseconds since the epoch.
+     *
+     * @param dateString a string containing the date.
+     * @return the number of milliseconds since 1970-01-01T00:00:00Z.
+     * @throws ParseException if the string cannot be parsed into a valid date.
+     */
+    public static long parseEpochMillis(String dateString) throws ParseException {
+        long millis = parseDateTime(dateString);
+        if (millis != NOT_PARSED) {
+            return millis;
+        }
+
         try {
-            return THREAD_LOCAL_DATE_FORMAT_SECONDS.get().parse(dateString);
+            return THREAD_LOCAL_DATE_FORMAT_SECONDS.get().parse(dateString).getTime();
         } catch (ParseException pe) {
-            return THREAD_LOCAL_DATE_FORMAT_MILLISECONDS.get().parse(dateString);
+            return THREAD_LOCAL_DATE_FORMAT_MILLISECONDS.get().parse(dateString).getTime();
         }
     }
 
@@ -55,6 +94,13 @@ public final class BoxDateFormat {
      * @throws ParseException if the string cannot be parsed into a valid date.
      */
     public static Date parseDateOnly(String date) throws ParseException {
+        if (date.length() == 10 && date.charAt(4) == '-' && date.charAt(7) == '-') {
+            long days = parseDate(date);
+            if (days != NOT_PARSED) {
+                return new Date(days * MILLIS_PER_DAY);
+            }
+        }
+
         return THREAD_LOCAL_DATE_ONLY.get().parse(date);
     }
 
@@ -65,7 +111,7 @@ public final class BoxDateFormat {
      * @return a string containing the formatted date.
      */
     public static String format(Date date) {
-        return THREAD_LOCAL_DATE_FORMAT_SECONDS.get().format(date);
+        return formatEpochMillis(date.getTime());
     }
 
     /**
@@ -75,7 +121,32 @@ public final class BoxDateFormat {
      * @return a string containing the formatted instant.
      */
     public static String format(Instant instant) {
-        return THREAD_LOCAL_DATE_FORMAT_SECONDS.get().format(Date.from(instant));
+        return formatEpochMillis(instant.toEpochMilli());
+    }
+
+    /**
+     * Formats a number of milliseconds since the epoch as a string that can be sent to the Box API.
+     *
+     * @param epochMillis the number of milliseconds since 1970-01-01T00:00:00Z.
+     * @return a string containing the formatted date.
+     */
+    public static String formatEpochMillis(long epochMillis) {
+        if (epochMillis < MIN_FAST_MILLIS || epochMillis >= MAX_FAST_MILLIS) {
+            return THREAD_LOCAL_DATE_FORMAT_SECONDS.get().format(new Date(epochMillis));
+        }
+
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int secondOfDay = (int) (Math.floorMod(epochMillis, MILLIS_PER_DAY) / MILLIS_PER_SECOND);
+        char[] chars = new char[20];
+        writeDate(chars, days);
+        chars[10] = 'T';
+        writeTwoDigits(chars, 11, secondOfDay / 3600);
+        chars[13] = ':';
+        writeTwoDigits(chars, 14, secondOfDay / 60 % 60);
+        chars[16] = ':';
+        writeTwoDigits(chars, 17, secondOfDay % 60);
+        chars[19] = 'Z';
+        return new String(chars);
     }
 
     /**
@@ -85,6 +156,200 @@ public final class BoxDateFormat {
      * @return a yyyy-MM-dd string containing the formatted date.
      */
     public static String formatAsDateOnly(Date date) {
-        return THREAD_LOCAL_DATE_ONLY.get().format(date);
+        long epochMillis = date.getTime();
+        if (epochMillis < MIN_FAST_MILLIS || epochMillis >= MAX_FAST_MILLIS) {
+            return THREAD_LOCAL_DATE_ONLY.get().format(date);
+        }
+
+        char[] chars = new char[10];
+        writeDate(chars, Math.floorDiv(epochMillis, MILLIS_PER_DAY));
+        return new String(chars);
+    }
+
+    /**
+     * Parses yyyy-MM-dd'T'HH:mm:ss, optionally followed by exactly three digits of milliseconds, and a zone that is
+     * either Z or an offset such as -07, -0700 or -07:00.
+     *
+     * @return the number of milliseconds since the epoch, or NOT_PARSED if the string has another layout.
+     */
+    private static long parseDateTime(String string) {
+        int length = string.length();
+        if (length < 20 || string.charAt(4) != '-' || string.charAt(7) != '-' || string.charAt(10) != 'T'
+            || string.charAt(13) != ':' || string.charAt(16) != ':') {
+            return NOT_PARSED;
+        }
+
+        long days = parseDate(string);
+        int hour = parseTwoDigits(string, 11);
+        int minute = parseTwoDigits(string, 14);
+        int second = parseTwoDigits(string, 17);
+        if (days == NOT_PARSED || hour > 23 || minute > 59 || second > 59) {
+            return NOT_PARSED;
+        }
+
+        int position = 19;
+        int millis = 0;
+        if (string.charAt(position) == '.') {
+            if (length < position + 5) {
+                return NOT_PARSED;
+            }
+            int high = parseDigit(string, position + 1);
+            int low = parseTwoDigits(string, position + 2);
+            if (high < 0 || low < 0) {
+                return NOT_PARSED;
+            }
+            millis = high * 100 + low;
+            position += 4;
+        }
+
+        int offsetSeconds = parseOffset(string, position);
+        if (offsetSeconds == Integer.MIN_VALUE) {
+            return NOT_PARSED;
+        }
+
+        long secondOfDay = hour * 3600L + minute * 60L + second;
+        return (days * 86400L + secondOfDay - offsetSeconds) * MILLIS_PER_SECOND + millis;
+    }
+
+    /**
+     * Parses the yyyy-MM-dd at the start of a string whose separators have already been checked.
+     *
+     * @return the number of days since the epoch, or NOT_PARSED if the date isn't valid.
+     */
+    private static long parseDate(String string) {
+        int century = parseTwoDigits(string, 0);
+        int yearOfCentury = parseTwoDigits(string, 2);
+        int month = parseTwoDigits(string, 5);
+        int day = parseTwoDigits(string, 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1) {
+            return NOT_PARSED;
+        }
+
+        int year = century * 100 + yearOfCentury;
+        if (year < MIN_YEAR || day > daysInMonth(year, month)) {
+            return NOT_PARSED;
+        }
+
+        return daysFromCivil(year, month, day);
+    }
+
+    /**
+     * Parses the zone at the end of a string.
+     *
+     * @return the offset from UTC in seconds, or Integer.MIN_VALUE if the zone isn't valid.
+     */
+    private static int parseOffset(String string, int position) {
+        int length = string.length() - position;
+        if (length == 1 && string.charAt(position) == 'Z') {
+            return 0;
+        }
+
+        char sign = string.charAt(position);
+        if ((sign != '+' && sign != '-') || (length != 3 && length != 5 && length != 6)) {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = parseTwoDigits(string, position + 1);
+        int minutes = 0;
+        if (length == 5) {
+            minutes = parseTwoDigits(string, position + 3);
+        } else if (length == 6) {
+            if (string.charAt(position + 3) != ':') {
+                return Integer.MIN_VALUE;
+            }
+            minutes = parseTwoDigits(string, position + 4);
+        }
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+
+        int offset = hours * 3600 + minutes * 60;
+        if (sign == '-') {
+            return -offset;
+        }
+        return offset;
+    }
+
+    private static int parseTwoDigits(String string, int position) {
+        int high = parseDigit(string, position);
+        int low = parseDigit(string, position + 1);
+        if (high < 0 || low < 0) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    private static int parseDigit(String string, int position) {
+        char c = string.charAt(position);
+        if (c < '0' || c > '9') {
+            return -1;
+        }
+        return c - '0';
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            if (leap) {
+                return 29;
+            }
+            return 28;
+        }
+        if (month == 4 || month == 6 || month == 9 || month == 11) {
+            return 30;
+        }
+        return 31;
+    }
+
+    /**
+     * Converts a date of the proleptic Gregorian calendar to the number of days since 1970-01-01.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = year;
+        if (month <= 2) {
+            y--;
+        }
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int shiftedMonth = month + 9;
+        if (month > 2) {
+            shiftedMonth = month - 3;
+        }
+        int dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    /**
+     * Writes the yyyy-MM-dd of a number of days since 1970-01-01 to the start of an array.
+     */
+    private static void writeDate(char[] chars, long days) {
+        long shifted = days + 719468;
+        long era = Math.floorDiv(shifted, 146097);
+        int dayOfEra = (int) (shifted - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth - 9;
+        if (shiftedMonth < 10) {
+            month = shiftedMonth + 3;
+        }
+        int year = (int) (yearOfEra + era * 400);
+        if (month <= 2) {
+            year++;
+        }
+
+        writeTwoDigits(chars, 0, year / 100);
+        writeTwoDigits(chars, 2, year % 100);
+        chars[4] = '-';
+        writeTwoDigits(chars, 5, month);
+        chars[7] = '-';
+        writeTwoDigits(chars, 8, day);
+    }
+
+    private static void writeTwoDigits(char[] chars, int position, int value) {
+        chars[position] = (char) ('0' + value / 10);
+        chars[position + 1] = (char) ('0' + value % 10);
     }
 }
@@ -52,6 +52,8 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
     private final String publicKeyID;
     private final String privateKey;
     private final String privateKeyPassword;
+    private final JWTEncryptionPreferences encryptionPref;
+    private volatile PrivateKey decryptedPrivateKey;
     private BackoffCounter backoffCounter;
     private final IAccessTokenCache accessTokenCache;
 
@@ -149,6 +151,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
         this.privateKey = encryptionPref.getPrivateKey();
         this.privateKeyPassword = encryptionPref.getPrivateKeyPassword();
         this.encryptionAlgorithm = encryptionPref.getEncryptionAlgorithm();
+        this.encryptionPref = encryptionPref;
         this.accessTokenCache = accessTokenCache;
         this.backoffCounter = new BackoffCounter(new Time());
     }
@@ -423,7 +426,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
         String jwtAssertion;
         String urlParameters;
         BoxAPIRequest request;
-        String json = null;
+        JsonObject jsonObject = null;
         final BoxLogger logger = BoxLogger.defaultLogger();
 
         while (this.backoffCounter.getAttemptsRemaining() > 0) {
@@ -437,7 +440,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
 
             try {
                 BoxJSONResponse response = (BoxJSONResponse) request.sendWithoutRetry();
-                json = response.getJSON();
+                jsonObject = response.getJsonObject();
                 break;
             } catch (BoxAPIException apiException) {
                 long responseReceivedTime = System.currentTimeMillis();
@@ -481,11 +484,10 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
             }
         }
 
-        if (json == null) {
+        if (jsonObject == null) {
             throw new RuntimeException("Unable to read authentication response in SDK.");
         }
 
-        JsonObject jsonObject = Json.parse(json).asObject();
         this.setAccessToken(jsonObject.get("access_token").asString());
         this.setLastRefresh(System.currentTimeMillis());
         this.setExpires(jsonObject.get("expires_in").asLong() * 1000);
@@ -498,7 +500,9 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
                 .add("lastRefresh", this.getLastRefresh())
                 .add("expires", this.getExpires());
 
-            this.accessTokenCache.put(key, accessTokenCacheInfo.toString());
+            // Other connections or processes sharing the cache may have stored a token that expires later.
+            this.accessTokenCache.putIfNewer(key, accessTokenCacheInfo.toString(),
+                this.getLastRefresh() + this.getExpires());
         }
     }
 
@@ -555,7 +559,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
         this.getRefreshLock().writeLock().unlock();
     }
 
-    private String getAccessTokenCacheKey() {
+    String getAccessTokenCacheKey() {
         return String.format("/%s/%s/%s/%s", this.getUserAgent(), this.getClientID(),
             this.entityType.toString(), this.entityID);
     }
@@ -565,17 +569,26 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
             //no cache specified so force authentication
             this.authenticate();
         } else {
-            String cachedTokenInfo = this.accessTokenCache.get(this.getAccessTokenCacheKey());
-            if (cachedTokenInfo == null) {
-                //not found; probably first time for this client config so authenticate; info will then be cached
-                this.authenticate();
-            } else {
-                //pull access token cache info; authentication will occur as needed (if token is expired)
-                JsonObject json = Json.parse(cachedTokenInfo).asObject();
-                this.setAccessToken(json.get("accessToken").asString());
-                this.setLastRefresh(json.get("lastRefresh").asLong());
-                this.setExpires(json.get("expires").asLong());
-            }
+            this.restoreUsingAccessTokenInfo(this.accessTokenCache.get(this.getAccessTokenCacheKey()));
+        }
+    }
+
+    /**
+     * Restores this connection's access token from access token information that was read from the cache, or
+     * authenticates if there is none. This lets the information of many connections be read from the cache at once.
+     *
+     * @param cachedTokenInfo the access token information, or null if the cache doesn't hold any.
+     */
+    void restoreUsingAccessTokenInfo(String cachedTokenInfo) {
+        if (cachedTokenInfo == null) {
+            //not found; probably first time for this client config so authenticate; info will then be cached
+            this.authenticate();
+        } else {
+            //pull access token cache info; authentication will occur as needed (if token is expired)
+            JsonObject json = Json.parse(cachedTokenInfo).asObject();
+            this.setAccessToken(json.get("accessToken").asString());
+            this.setLastRefresh(json.get("lastRefresh").asLong());
+            this.setExpires(json.get("expires").asLong());
         }
     }
 
@@ -599,7 +612,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
 
         JsonWebSignature jws = new JsonWebSignature();
         jws.setPayload(claims.toJson());
-        jws.setKey(this.decryptPrivateKey());
+        jws.setKey(this.getDecryptedPrivateKey());
         jws.setAlgorithmHeaderValue(this.getAlgorithmIdentifier());
         jws.setHeader("typ", "JWT");
         if ((this.publicKeyID != null) && !this.publicKeyID.isEmpty()) {
@@ -634,10 +647,21 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
         return algorithmId;
     }
 
-    private PrivateKey decryptPrivateKey() {
+    private PrivateKey getDecryptedPrivateKey() {
+        // The key is decrypted by the preferences, so that every connection created with them shares it, and is then
+        // kept by this connection so that signing later assertions doesn't lock the preferences.
+        PrivateKey key = this.decryptedPrivateKey;
+        if (key == null) {
+            key = this.encryptionPref.getDecryptedPrivateKey(this.privateKey, this.privateKeyPassword);
+            this.decryptedPrivateKey = key;
+        }
+        return key;
+    }
+
+    static PrivateKey decryptPrivateKey(String privateKey, String privateKeyPassword) {
         PrivateKey decryptedPrivateKey;
         try {
-            PEMParser keyReader = new PEMParser(new StringReader(this.privateKey));
+            PEMParser keyReader = new PEMParser(new StringReader(privateKey));
             Object keyPair = keyReader.readObject();
             keyReader.close();
 
@@ -646,13 +670,13 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
                 decryptedPrivateKey = (new JcaPEMKeyConverter()).getPrivateKey(keyInfo);
             } else if (keyPair instanceof PEMEncryptedKeyPair) {
                 JcePEMDecryptorProviderBuilder builder = new JcePEMDecryptorProviderBuilder();
-                PEMDecryptorProvider decryptionProvider = builder.build(this.privateKeyPassword.toCharArray());
+                PEMDecryptorProvider decryptionProvider = builder.build(privateKeyPassword.toCharArray());
                 keyPair = ((PEMEncryptedKeyPair) keyPair).decryptKeyPair(decryptionProvider);
                 PrivateKeyInfo keyInfo = ((PEMKeyPair) keyPair).getPrivateKeyInfo();
                 decryptedPrivateKey = (new JcaPEMKeyConverter()).getPrivateKey(keyInfo);
             } else if (keyPair instanceof PKCS8EncryptedPrivateKeyInfo) {
                 InputDecryptorProvider pkcs8Prov = new JceOpenSSLPKCS8DecryptorProviderBuilder().setProvider("BC")
-                    .build(this.privateKeyPassword.toCharArray());
+                    .build(privateKeyPassword.toCharArray());
                 PrivateKeyInfo keyInfo = ((PKCS8EncryptedPrivateKeyInfo) keyPair).decryptPrivateKeyInfo(pkcs8Prov);
                 decryptedPrivateKey = (new JcaPEMKeyConverter()).getPrivateKey(keyInfo);
             } else {
@@ -0,0 +1,382 @@
+package com.box.sdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of Box Developer Edition connections for the users and enterprise of an application.
+ *
+ * <p>Each user or enterprise has at most one connection in the pool, and it is shared by every caller. When several
+ * threads ask for a connection that isn't pooled yet, only one of them creates it and exchanges a JWT assertion for an
+ * access token, while the others wait for it. The pool holds a bounded number of connections and evicts the least
+ * recently used one when it's full. Connections for users that are about to be needed can be created ahead of time
+ * with {@link #prefetchUserConnections(String...)}. Prefetching authenticates a bounded number of users at a time, so
+ * prefetching many users doesn't start a burst of token requests.</p>
+ *
+ * <p>Connections are created with the access token cache given to the pool, if any, so an evicted connection can be
+ * created again without a new JWT exchange while its token is still cached.</p>
+ */
+public final class BoxDeveloperEditionConnectionPool {
+    private static final int DEFAULT_PREFETCH_PARALLELISM = 4;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final String clientID;
+    private final String clientSecret;
+    private final JWTEncryptionPreferences encryptionPref;
+    private final IAccessTokenCache accessTokenCache;
+    private final int maxConnections;
+    private final ConcurrentMap<Key, PooledConnection> connections;
+    private final ConcurrentMap<Key, CompletableFuture<BoxDeveloperEditionAPIConnection>> pendingConnections;
+    private final Object evictionLock = new Object();
+    private final ExecutorService prefetchExecutor;
+
+    /**
+     * Constructs a pool of connections for an application.
+     *
+     * @param clientID         the client ID to use when exchanging the JWT assertion for an access token.
+     * @param clientSecret     the client secret to use when exchanging the JWT assertion for an access token.
+     * @param encryptionPref   the encryption preferences for signing the JWT.
+     * @param accessTokenCache the cache for storing access token information, or null to always fetch new tokens.
+     * @param maxConnections   the maximum number of connections kept in the pool.
+     */
+    public BoxDeveloperEditionConnectionPool(String clientID, String clientSecret,
+                                             JWTEncryptionPreferences encryptionPref,
+                                             IAccessTokenCache accessTokenCache, int maxConnections) {
+        this(clientID, clientSecret, encryptionPref, accessTokenCache, maxConnections, DEFAULT_PREFETCH_PARALLELISM);
+    }
+
+    /**
+     * Constructs a pool of connections for an application that prefetches a given number of connections at a time.
+     *
+     * @param clientID            the client ID to use when exchanging the JWT assertion for an access token.
+     * @param clientSecret        the client secret to use when exchanging the JWT assertion for an access token.
+     * @param encryptionPref      the encryption preferences for signing the JWT.
+     * @param accessTokenCache    the cache for storing access token information, or null to always fetch new tokens.
+     * @param maxConnections      the maximum number of connections kept in the pool.
+     * @param prefetchParallelism the maximum number of connections authenticated at the same time while prefetching.
+     */
+    public BoxDeveloperEditionConnectionPool(String clientID, String clientSecret,
+                                             JWTEncryptionPreferences encryptionPref,
+                                             IAccessTokenCache accessTokenCache, int maxConnections,
+                                             int prefetchParallelism) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("A connection pool must hold at least one connection.");
+        }
+        if (prefetchParallelism < 1) {
+            throw new IllegalArgumentException("A connection pool must prefetch at least one connection at a time.");
+        }
+
+        this.clientID = clientID;
+        this.clientSecret = clientSecret;
+        this.encryptionPref = encryptionPref;
+        this.accessTokenCache = accessTokenCache;
+        this.maxConnections = maxConnections;
+        this.connections = new ConcurrentHashMap<>();
+        this.pendingConnections = new ConcurrentHashMap<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(prefetchParallelism, prefetchParallelism,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+            AsyncExecutors.daemonThreadFactory("box-connection-prefetch-"));
+        executor.allowCoreThreadTimeOut(true);
+        this.prefetchExecutor = executor;
+    }
+
+    /**
+     * Constructs a pool of connections for an application from a configuration.
+     *
+     * @param boxConfig        the configuration of the application.
+     * @param accessTokenCache the cache for storing access token information, or null to always fetch new tokens.
+     * @param maxConnections   the maximum number of connections kept in the pool.
+     */
+    public BoxDeveloperEditionConnectionPool(BoxConfig boxConfig, IAccessTokenCache accessTokenCache,
+                                             int maxConnections) {
+        this(boxConfig.getClientId(), boxConfig.getClientSecret(), boxConfig.getJWTEncryptionPreferences(),
+            accessTokenCache, maxConnections);
+    }
+
+    /**
+     * Gets the connection for an App User or Managed User, creating and authenticating it if it isn't pooled.
+     *
+     * @param userID the ID of the user.
+     * @return the connection for the user.
+     */
+    public BoxDeveloperEditionAPIConnection getUserConnection(String userID) {
+        return this.getConnection(new Key(this.clientID, DeveloperEditionEntityType.USER, userID));
+    }
+
+    /**
+     * Gets the connection for the enterprise of the application, creating and authenticating it if it isn't pooled.
+     *
+     * @param enterpriseID the ID of the enterprise.
+     * @return the connection for the enterprise.
+     */
+    public BoxDeveloperEditionAPIConnection getEnterpriseConnection(String enterpriseID) {
+        return this.getConnection(new Key(this.clientID, DeveloperEditionEntityType.ENTERPRISE, enterpriseID));
+    }
+
+    /**
+     * Creates and authenticates the connections of users in the background, so that they're ready when they're asked
+     * for. Users whose connections are already pooled or being created are skipped.
+     *
+     * <p>The access token information of all the users is read from the access token cache at once, with
+     * {@link IAccessTokenCache#getAll(java.util.Collection)}, and only the users whose tokens aren't cached are
+     * authenticated.</p>
+     *
+     * <p>Errors while authenticating a prefetched connection aren't reported. The connection is created again, and the
+     * error thrown, the next time it's asked for.</p>
+     *
+     * @param userIDs the IDs of the users.
+     */
+    public void prefetchUserConnections(String... userIDs) {
+        final Map<Key, CompletableFuture<BoxDeveloperEditionAPIConnection>> claimed = new LinkedHashMap<>();
+        for (String userID : userIDs) {
+            Key key = new Key(this.clientID, DeveloperEditionEntityType.USER, userID);
+            if (this.getPooledConnection(key) != null) {
+                continue;
+            }
+
+            CompletableFuture<BoxDeveloperEditionAPIConnection> pending = new CompletableFuture<>();
+            if (this.pendingConnections.putIfAbsent(key, pending) == null) {
+                claimed.put(key, pending);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.prefetchExecutor.execute(() -> this.prefetchConnections(claimed));
+        } catch (RejectedExecutionException e) {
+            for (Map.Entry<Key, CompletableFuture<BoxDeveloperEditionAPIConnection>> entry : claimed.entrySet()) {
+                this.releasePending(entry.getKey(), entry.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * Removes the connection of a user from the pool, for example after the user has been deleted.
+     *
+     * @param userID the ID of the user.
+     */
+    public void removeUserConnection(String userID) {
+        this.connections.remove(new Key(this.clientID, DeveloperEditionEntityType.USER, userID));
+    }
+
+    /**
+     * Gets the number of connections in the pool.
+     *
+     * @return the number of pooled connections.
+     */
+    public int size() {
+        return this.connections.size();
+    }
+
+    private BoxDeveloperEditionAPIConnection getConnection(Key key) {
+        BoxDeveloperEditionAPIConnection connection = this.getPooledConnection(key);
+        if (connection != null) {
+            return connection;
+        }
+
+        CompletableFuture<BoxDeveloperEditionAPIConnection> pending = new CompletableFuture<>();
+        CompletableFuture<BoxDeveloperEditionAPIConnection> existing = this.pendingConnections.putIfAbsent(key,
+            pending);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            // Another thread may have pooled the connection between the first lookup and claiming the key.
+            connection = this.getPooledConnection(key);
+            if (connection == null) {
+                connection = this.createConnection(key);
+                this.poolConnection(key, connection);
+            }
+            pending.complete(connection);
+            return connection;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.pendingConnections.remove(key, pending);
+        }
+    }
+
+    private void prefetchConnections(Map<Key, CompletableFuture<BoxDeveloperEditionAPIConnection>> claimed) {
+        Map<Key, BoxDeveloperEditionAPIConnection> created = new LinkedHashMap<>();
+        Map<String, String> tokenInfos;
+        try {
+            List<String> cacheKeys = new ArrayList<>(claimed.size());
+            for (Key key : claimed.keySet()) {
+                BoxDeveloperEditionAPIConnection connection = new BoxDeveloperEditionAPIConnection(key.entityID,
+                    key.entityType, this.clientID, this.clientSecret, this.encryptionPref, this.accessTokenCache);
+                created.put(key, connection);
+                cacheKeys.add(connection.getAccessTokenCacheKey());
+            }
+            if (this.accessTokenCache == null) {
+                tokenInfos = Collections.emptyMap();
+            } else {
+                tokenInfos = this.accessTokenCache.getAll(cacheKeys);
+            }
+        } catch (RuntimeException | Error e) {
+            for (Map.Entry<Key, CompletableFuture<BoxDeveloperEditionAPIConnection>> entry : claimed.entrySet()) {
+                this.releasePending(entry.getKey(), entry.getValue(), e);
+            }
+            return;
+        }
+
+        for (Map.Entry<Key, BoxDeveloperEditionAPIConnection> entry : created.entrySet()) {
+            final Key key = entry.getKey();
+            final BoxDeveloperEditionAPIConnection connection = entry.getValue();
+            final CompletableFuture<BoxDeveloperEditionAPIConnection> pending = claimed.get(key);
+            final String tokenInfo = tokenInfos.get(connection.getAccessTokenCacheKey());
+            if (tokenInfo != null) {
+                this.restoreConnection(key, pending, connection, tokenInfo);
+                continue;
+            }
+
+            // Users without a cached token are authenticated in parallel, at most prefetchParallelism at a time.
+            try {
+                this.prefetchExecutor.execute(() -> this.restoreConnection(key, pending, connection, null));
+            } catch (RejectedExecutionException e) {
+                this.restoreConnection(key, pending, connection, null);
+            }
+        }
+    }
+
+    private void restoreConnection(Key key, CompletableFuture<BoxDeveloperEditionAPIConnection> pending,
+                                   BoxDeveloperEditionAPIConnection connection, String tokenInfo) {
+        try {
+            connection.restoreUsingAccessTokenInfo(tokenInfo);
+            this.poolConnection(key, connection);
+            pending.complete(connection);
+        } catch (RuntimeException | Error e) {
+            // The error is thrown to the callers waiting for this connection.
+            pending.completeExceptionally(e);
+        } finally {
+            this.pendingConnections.remove(key, pending);
+        }
+    }
+
+    private void releasePending(Key key, CompletableFuture<BoxDeveloperEditionAPIConnection> pending,
+                                Throwable error) {
+        pending.completeExceptionally(error);
+        this.pendingConnections.remove(key, pending);
+    }
+
+    private BoxDeveloperEditionAPIConnection createConnection(Key key) {
+        if (key.entityType == DeveloperEditionEntityType.USER) {
+            return BoxDeveloperEditionAPIConnection.getUserConnection(key.entityID, this.clientID, this.clientSecret,
+                this.encryptionPref, this.accessTokenCache);
+        }
+
+        return BoxDeveloperEditionAPIConnection.getAppEnterpriseConnection(key.entityID, this.clientID,
+            this.clientSecret, this.encryptionPref, this.accessTokenCache);
+    }
+
+    private BoxDeveloperEditionAPIConnection getPooledConnection(Key key) {
+        PooledConnection pooled = this.connections.get(key);
+        if (pooled == null) {
+            return null;
+        }
+
+        pooled.lastUsed = System.nanoTime();
+        return pooled.connection;
+    }
+
+    private void poolConnection(Key key, BoxDeveloperEditionAPIConnection connection) {
+        this.connections.put(key, new PooledConnection(connection));
+        if (this.connections.size() <= this.maxConnections) {
+            return;
+        }
+
+        // Lookups don't lock, so the least recently used connection is found by scanning the pool. This only happens
+        // when a new connection is pooled, which is rare next to the JWT exchange that created it.
+        synchronized (this.evictionLock) {
+            while (this.connections.size() > this.maxConnections) {
+                Map.Entry<Key, PooledConnection> eldest = null;
+                for (Map.Entry<Key, PooledConnection> entry : this.connections.entrySet()) {
+                    if (eldest == null || entry.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                        eldest = entry;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                this.connections.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    private static BoxDeveloperEditionAPIConnection join(CompletableFuture<BoxDeveloperEditionAPIConnection> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A pooled connection and the time at which it was last asked for, in the units of {@link System#nanoTime()}.
+     */
+    private static final class PooledConnection {
+        private final BoxDeveloperEditionAPIConnection connection;
+        private volatile long lastUsed;
+
+        PooledConnection(BoxDeveloperEditionAPIConnection connection) {
+            this.connection = connection;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+
+    /**
+     * Identifies a pooled connection by the application and the user or enterprise it acts as.
+     */
+    private static final class Key {
+        private final String clientID;
+        private final DeveloperEditionEntityType entityType;
+        private final String entityID;
+
+        Key(String clientID, DeveloperEditionEntityType entityType, String entityID) {
+            this.clientID = clientID;
+            this.entityType = entityType;
+            this.entityID = entityID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return Objects.equals(this.clientID, key.clientID) && this.entityType == key.entityType
+                && Objects.equals(this.entityID, key.entityID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.clientID, this.entityType, this.entityID);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.text.ParseException;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +14,15 @@ import java.util.Map;
  */
 @BoxResourceType("event")
 public class BoxEvent extends BoxResource {
+    private static final Map<String, Type> TYPE_BY_NAME = new HashMap<>(Type.values().length);
+
+    static {
+        for (Type t : Type.values()) {
+            TYPE_BY_NAME.put(t.name(), t);
+        }
+    }
+
+    private final JsonObject deferredMembers;
     private BoxResource.Info sourceInfo;
     private BoxEvent.Type type;
     private BoxEvent.EventType eventType;
@@ -39,13 +49,53 @@ public class BoxEvent extends BoxResource {
     BoxEvent(BoxAPIConnection api, JsonObject jsonObject) {
         super(api, jsonObject.get("event_id").asString());
 
+        boolean lazy = api != null && api.getLazyInfoDecoding();
+        JsonObject deferred = null;
         for (JsonObject.Member member : jsonObject) {
-            if (member.getValue().isNull()) {
+            JsonValue value = member.getValue();
+            if (value.isNull()) {
                 continue;
             }
 
-            this.parseJsonMember(member);
+            String memberName = member.getName();
+            if (lazy && isDeferred(memberName)) {
+                if (deferred == null) {
+                    deferred = new JsonObject();
+                }
+                deferred.add(memberName, value);
+                if (memberName.equals("source")) {
+                    this.sourceJSON = JsonObject.unmodifiableObject(value.asObject());
+                }
+            } else {
+                this.parseJsonMember(memberName, value);
+            }
+        }
+        this.deferredMembers = deferred;
+    }
+
+    /**
+     * Determines whether the JSON of an event has one of a set of event types, without constructing the event.
+     *
+     * @param jsonObject the JSON of the event.
+     * @param typeNames  the names of the event types, or null to accept events of any type.
+     * @return true if the event has one of the event types; otherwise false.
+     */
+    static boolean hasEventType(JsonObject jsonObject, Collection<String> typeNames) {
+        if (typeNames == null) {
+            return true;
         }
+
+        JsonValue eventType = jsonObject.get("event_type");
+        return eventType != null && eventType.isString() && typeNames.contains(eventType.asString());
+    }
+
+    /**
+     * Determines whether a member is left undecoded until it's read when events are decoded lazily. Only the members
+     * that are costly to decode, such as dates and nested infos, are deferred.
+     */
+    private static boolean isDeferred(String memberName) {
+        return memberName.equals("source") || memberName.equals("created_at") || memberName.equals("accessible_by")
+            || memberName.equals("created_by") || memberName.equals("action_by");
     }
 
     /**
@@ -58,6 +108,7 @@ public class BoxEvent extends BoxResource {
      * @return info about the source of this event.
      */
     public BoxResource.Info getSourceInfo() {
+        this.decodeMember("source");
         return this.sourceInfo;
     }
 
@@ -110,6 +161,7 @@ public class BoxEvent extends BoxResource {
      * @return the time that this event was created.
      */
     public Date getCreatedAt() {
+        this.decodeMember("created_at");
         return this.createdAt;
     }
 
@@ -142,6 +194,7 @@ public class BoxEvent extends BoxResource {
      * @return info about the collaborator who was given access to a folder within the current enterprise.
      */
     public BoxCollaborator.Info getAccessibleBy() {
+        this.decodeMember("accessible_by");
         return this.accessibleBy;
     }
 
@@ -151,6 +204,7 @@ public class BoxEvent extends BoxResource {
      * @return info about the user that triggered this event.
      */
     public BoxUser.Info getCreatedBy() {
+        this.decodeMember("created_by");
         return this.createdBy;
     }
 
@@ -169,6 +223,7 @@ public class BoxEvent extends BoxResource {
      * @return info about the user that performed that action for this event.
      */
     public BoxUser.Info getActionBy() {
+        this.decodeMember("action_by");
         return this.actionBy;
     }
 
@@ -178,7 +233,27 @@ public class BoxEvent extends BoxResource {
             return;
         }
 
-        String memberName = member.getName();
+        this.parseJsonMember(member.getName(), value);
+    }
+
+    /**
+     * Decodes a member that was deferred when the event was constructed, if it hasn't been decoded yet.
+     */
+    private void decodeMember(String memberName) {
+        if (this.deferredMembers == null) {
+            return;
+        }
+
+        synchronized (this.deferredMembers) {
+            JsonValue value = this.deferredMembers.get(memberName);
+            if (value != null) {
+                this.deferredMembers.remove(memberName);
+                this.parseJsonMember(memberName, value);
+            }
+        }
+    }
+
+    private void parseJsonMember(String memberName, JsonValue value) {
         if (memberName.equals("source")) {
             // Parsing the source might fail due to a bug in the enterprise event stream where the API returns JSON that
             // doesn't correctly map to a BoxResource.Info. If this happens, we set the sourceInfo to null and expect
@@ -192,13 +267,7 @@ public class BoxEvent extends BoxResource {
         } else if (memberName.equals("event_type")) {
             String stringValue = value.asString();
             this.typeName = stringValue;
-            for (Type t : Type.values()) {
-                if (t.name().equals(stringValue)) {
-                    this.type = t;
-                    break;
-                }
-            }
-
+            this.type = TYPE_BY_NAME.get(stringValue);
             this.eventType = BoxEvent.EventType.lookupByValue(stringValue);
 
             if (this.type == null || this.eventType == null) {
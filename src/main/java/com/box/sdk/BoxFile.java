@@ -15,6 +15,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,6 +25,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 
@@ -236,7 +239,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxComment addedComment = new BoxComment(this.getAPI(), responseJSON.get("id").asString());
         return addedComment.new Info(responseJSON);
@@ -290,7 +293,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxTask addedTask = new BoxTask(this.getAPI(), responseJSON.get("id").asString());
         return addedTask.new Info(responseJSON);
@@ -334,13 +337,8 @@ public class BoxFile extends BoxItem {
         BoxAPIResponse response = request.send();
         InputStream input = response.getBody(listener);
 
-        byte[] buffer = new byte[BUFFER_SIZE];
         try {
-            int n = input.read(buffer);
-            while (n != -1) {
-                output.write(buffer, 0, n);
-                n = input.read(buffer);
-            }
+            BoxAPIRequest.copyStream(input, output);
         } catch (IOException e) {
             throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
         } finally {
@@ -390,13 +388,8 @@ public class BoxFile extends BoxItem {
         BoxAPIResponse response = request.send();
         InputStream input = response.getBody(listener);
 
-        byte[] buffer = new byte[BUFFER_SIZE];
         try {
-            int n = input.read(buffer);
-            while (n != -1) {
-                output.write(buffer, 0, n);
-                n = input.read(buffer);
-            }
+            BoxAPIRequest.copyStream(input, output);
         } catch (IOException e) {
             throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
         } finally {
@@ -411,6 +404,24 @@ public class BoxFile extends BoxItem {
 
     @Override
     public BoxFile.Info copy(BoxFolder destination, String newName) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createCopyRequest(destination, newName).send();
+        return this.parseResultingFileInfo(response);
+    }
+
+    /**
+     * Asynchronously copies this file to another folder.
+     *
+     * @param destination the destination folder.
+     * @param newName     an optional new name for the copied file.
+     * @return a future that completes with info about the copied file.
+     * @see #copy(BoxFolder, String)
+     */
+    public CompletableFuture<BoxFile.Info> copyAsync(BoxFolder destination, String newName) {
+        return this.createCopyRequest(destination, newName).sendAsync()
+            .thenApply(response -> this.parseResultingFileInfo((BoxJSONResponse) response));
+    }
+
+    private BoxJSONRequest createCopyRequest(BoxFolder destination, String newName) {
         URL url = COPY_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
 
         JsonObject parent = new JsonObject();
@@ -424,22 +435,37 @@ public class BoxFile extends BoxItem {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(copyInfo.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-        BoxFile copiedFile = new BoxFile(this.getAPI(), responseJSON.get("id").asString());
-        return copiedFile.new Info(responseJSON);
+        return request;
+    }
+
+    private BoxFile.Info parseResultingFileInfo(BoxJSONResponse response) {
+        JsonObject responseJSON = response.getJsonObject();
+        BoxFile resultingFile = new BoxFile(this.getAPI(), responseJSON.get("id").asString());
+        return resultingFile.new Info(responseJSON);
     }
 
     /**
      * Deletes this file by moving it to the trash.
      */
     public void delete() {
-        URL url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
-        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "DELETE");
-        BoxAPIResponse response = request.send();
+        BoxAPIResponse response = this.createDeleteRequest().send();
         response.disconnect();
     }
 
+    /**
+     * Asynchronously deletes this file by moving it to the trash.
+     *
+     * @return a future that completes once the file has been deleted.
+     */
+    public CompletableFuture<Void> deleteAsync() {
+        return this.createDeleteRequest().sendAsync().thenAccept(BoxAPIResponse::disconnect);
+    }
+
+    private BoxAPIRequest createDeleteRequest() {
+        URL url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
+        return new BoxAPIRequest(this.getAPI(), url, "DELETE");
+    }
+
     @Override
     public BoxItem.Info move(BoxFolder destination) {
         return this.move(destination, null);
@@ -447,6 +473,24 @@ public class BoxFile extends BoxItem {
 
     @Override
     public BoxItem.Info move(BoxFolder destination, String newName) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createMoveRequest(destination, newName).send();
+        return this.parseResultingFileInfo(response);
+    }
+
+    /**
+     * Asynchronously moves this file to another folder.
+     *
+     * @param destination the destination folder.
+     * @param newName     an optional new name for the moved file.
+     * @return a future that completes with info about the moved file.
+     * @see #move(BoxFolder, String)
+     */
+    public CompletableFuture<BoxItem.Info> moveAsync(BoxFolder destination, String newName) {
+        return this.createMoveRequest(destination, newName).sendAsync()
+            .thenApply(response -> this.parseResultingFileInfo((BoxJSONResponse) response));
+    }
+
+    private BoxJSONRequest createMoveRequest(BoxFolder destination, String newName) {
         URL url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
 
@@ -460,10 +504,7 @@ public class BoxFile extends BoxItem {
         }
 
         request.setBody(updateInfo.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-        BoxFile movedFile = new BoxFile(this.getAPI(), responseJSON.get("id").asString());
-        return movedFile.new Info(responseJSON);
+        return request;
     }
 
     /**
@@ -480,7 +521,7 @@ public class BoxFile extends BoxItem {
 
         request.setBody(updateInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        response.getJSON();
+        response.disconnect();
     }
 
     @Override
@@ -488,7 +529,7 @@ public class BoxFile extends BoxItem {
         URL url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     @Override
@@ -498,7 +539,28 @@ public class BoxFile extends BoxItem {
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously gets information about this file. If no fields are given, then the default set of fields is
+     * returned.
+     *
+     * @param fields the fields to retrieve.
+     * @return a future that completes with info about this file containing only the specified fields.
+     * @see #getInfo(String...)
+     */
+    public CompletableFuture<BoxFile.Info> getInfoAsync(String... fields) {
+        URL url;
+        if (fields.length == 0) {
+            url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
+        } else {
+            String queryString = new QueryStringBuilder().appendParam("fields", fields).toString();
+            url = FILE_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), queryString, this.getID());
+        }
+
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        return request.sendAsync().thenApply(response -> new Info(((BoxJSONResponse) response).getJsonObject()));
     }
 
     /**
@@ -521,7 +583,7 @@ public class BoxFile extends BoxItem {
             BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
             request.addHeader("X-Rep-Hints", representationHints);
             BoxJSONResponse response = (BoxJSONResponse) request.send();
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         } else {
             throw new BoxAPIException("Represention hints is not valid."
                 + " Refer documention on how to construct X-Rep-Hints Header");
@@ -645,12 +707,31 @@ public class BoxFile extends BoxItem {
      * @param info the updated info.
      */
     public void updateInfo(BoxFile.Info info) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createUpdateInfoRequest(info).send();
+        JsonObject jsonObject = response.getJsonObject();
+        info.update(jsonObject);
+    }
+
+    /**
+     * Asynchronously updates the information about this file with any info fields that have been modified locally.
+     * The given info object is updated with the server's response before the returned future completes.
+     *
+     * @param info the updated info.
+     * @return a future that completes with the updated info.
+     * @see #updateInfo(BoxFile.Info)
+     */
+    public CompletableFuture<BoxFile.Info> updateInfoAsync(BoxFile.Info info) {
+        return this.createUpdateInfoRequest(info).sendAsync().thenApply(response -> {
+            info.update(((BoxJSONResponse) response).getJsonObject());
+            return info;
+        });
+    }
+
+    private BoxJSONRequest createUpdateInfoRequest(BoxFile.Info info) {
         URL url = FILE_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-        info.update(jsonObject);
+        return request;
     }
 
     /**
@@ -681,7 +762,7 @@ public class BoxFile extends BoxItem {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
 
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         JsonArray entries = jsonObject.get("entries").asArray();
         Collection<BoxFileVersion> versions = new ArrayList<>();
         for (JsonValue entry : entries) {
@@ -717,7 +798,7 @@ public class BoxFile extends BoxItem {
 
         request.setBody(preflightInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        response.getJSON();
+        response.disconnect();
     }
 
     /**
@@ -946,6 +1027,48 @@ public class BoxFile extends BoxItem {
             request.setFile(fileContent, "");
         }
 
+        return this.uploadNewVersion(request, fileContentSHA1, modified, name, listener);
+    }
+
+    /**
+     * Uploads the contents of a local file as a new version of this file, replacing the current version. The file is
+     * read directly from disk on each attempt, so the upload can be retried if it fails.
+     *
+     * @param file the path of the file containing the new contents.
+     * @return the uploaded file version.
+     */
+    public BoxFile.Info uploadNewVersion(Path file) {
+        return this.uploadNewVersion(file, null, null, null, null);
+    }
+
+    /**
+     * Uploads the contents of a local file as a new version of this file, replacing the current version, while
+     * reporting the progress to a ProgressListener. The file is read directly from disk on each attempt, so the upload
+     * can be retried if it fails, and its size is used for determining the progress of the upload.
+     *
+     * @param file            the path of the file containing the new contents.
+     * @param fileContentSHA1 the SHA1 hash of the file contents. will be sent along in the Content-MD5 header
+     * @param modified        the date that the new version was modified.
+     * @param name            the new name for the file
+     * @param listener        a listener for monitoring the upload's progress.
+     * @return the uploaded file version.
+     */
+    public BoxFile.Info uploadNewVersion(Path file, String fileContentSHA1, Date modified, String name,
+                                         ProgressListener listener) {
+        URL uploadURL = CONTENT_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL(), this.getID());
+        BoxMultipartRequest request = new BoxMultipartRequest(getAPI(), uploadURL);
+
+        try {
+            request.setFile(file, "");
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't read the size of the file to upload.", e);
+        }
+
+        return this.uploadNewVersion(request, fileContentSHA1, modified, name, listener);
+    }
+
+    private BoxFile.Info uploadNewVersion(BoxMultipartRequest request, String fileContentSHA1, Date modified,
+                                          String name, ProgressListener listener) {
         if (fileContentSHA1 != null) {
             request.setContentSHA1(fileContentSHA1);
         }
@@ -1046,7 +1169,7 @@ public class BoxFile extends BoxItem {
         URL url = GET_COMMENTS_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int totalCount = responseJSON.get("total_count").asInt();
         List<BoxComment.Info> comments = new ArrayList<>(totalCount);
@@ -1075,7 +1198,7 @@ public class BoxFile extends BoxItem {
         URL url = GET_TASKS_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int totalCount = responseJSON.get("total_count").asInt();
         List<BoxTask.Info> tasks = new ArrayList<>(totalCount);
@@ -1121,12 +1244,16 @@ public class BoxFile extends BoxItem {
      * @return the metadata returned from the server.
      */
     public Metadata createMetadata(String typeName, String scope, Metadata metadata) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createCreateMetadataRequest(typeName, scope, metadata).send();
+        return new Metadata(response.getJsonObject());
+    }
+
+    private BoxAPIRequest createCreateMetadataRequest(String typeName, String scope, Metadata metadata) {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, typeName);
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "POST");
         request.addHeader("Content-Type", "application/json");
         request.setBody(metadata.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return request;
     }
 
     /**
@@ -1154,7 +1281,44 @@ public class BoxFile extends BoxItem {
         }
     }
 
+    /**
+     * Asynchronously sets the provided metadata on the file. If metadata has already been created on this file,
+     * it overwrites metadata keys specified in the `metadata` param.
+     *
+     * @param templateName the name of the metadata template.
+     * @param scope        the scope of the template (usually "global" or "enterprise").
+     * @param metadata     the new metadata values.
+     * @return a future that completes with the metadata returned from the server.
+     * @see #setMetadata(String, String, Metadata)
+     */
+    public CompletableFuture<Metadata> setMetadataAsync(String templateName, String scope, Metadata metadata) {
+        return this.createCreateMetadataRequest(templateName, scope, metadata).sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()))
+            .handle((created, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(created);
+                }
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof BoxAPIException && ((BoxAPIException) cause).getResponseCode() == 409) {
+                    if (metadata.getOperations().isEmpty()) {
+                        return this.getMetadataAsync(Metadata.DEFAULT_METADATA_TYPE,
+                            Metadata.scopeBasedOnType(Metadata.DEFAULT_METADATA_TYPE));
+                    } else {
+                        return this.updateMetadataAsync(this.toMetadataUpdate(templateName, scope, metadata));
+                    }
+                }
+                CompletableFuture<Metadata> failed = new CompletableFuture<>();
+                failed.completeExceptionally(cause);
+                return failed;
+            })
+            .thenCompose(future -> future);
+    }
+
     private Metadata updateExistingTemplate(String templateName, String scope, Metadata metadata) {
+        return this.updateMetadata(this.toMetadataUpdate(templateName, scope, metadata));
+    }
+
+    private Metadata toMetadataUpdate(String templateName, String scope, Metadata metadata) {
         Metadata metadataToUpdate = new Metadata(scope, templateName);
         for (JsonValue value : metadata.getOperations()) {
             if (value.asObject().get("value").isNumber()) {
@@ -1171,7 +1335,7 @@ public class BoxFile extends BoxItem {
                 metadataToUpdate.add(value.asObject().get("path").asString(), list);
             }
         }
-        return this.updateMetadata(metadataToUpdate);
+        return metadataToUpdate;
     }
 
     /**
@@ -1312,7 +1476,7 @@ public class BoxFile extends BoxItem {
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
 
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         JsonValue lockValue = responseJSON.get("lock");
         JsonObject lockJSON = Json.parse(lockValue.toString()).asObject();
 
@@ -1375,7 +1539,22 @@ public class BoxFile extends BoxItem {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, typeName);
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return new Metadata(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously gets the file metadata of specified template type.
+     *
+     * @param typeName the metadata template type name.
+     * @param scope    the metadata scope (global or enterprise).
+     * @return a future that completes with the metadata returned from the server.
+     * @see #getMetadata(String, String)
+     */
+    public CompletableFuture<Metadata> getMetadataAsync(String typeName, String scope) {
+        URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, typeName);
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        return request.sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()));
     }
 
     /**
@@ -1385,6 +1564,23 @@ public class BoxFile extends BoxItem {
      * @return the metadata returned from the server.
      */
     public Metadata updateMetadata(Metadata metadata) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createUpdateMetadataRequest(metadata).send();
+        return new Metadata(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously updates the file metadata.
+     *
+     * @param metadata the new metadata values.
+     * @return a future that completes with the metadata returned from the server.
+     * @see #updateMetadata(Metadata)
+     */
+    public CompletableFuture<Metadata> updateMetadataAsync(Metadata metadata) {
+        return this.createUpdateMetadataRequest(metadata).sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()));
+    }
+
+    private BoxAPIRequest createUpdateMetadataRequest(Metadata metadata) {
         String scope;
         if (metadata.getScope().equals(Metadata.GLOBAL_METADATA_SCOPE)) {
             scope = Metadata.GLOBAL_METADATA_SCOPE;
@@ -1399,8 +1595,7 @@ public class BoxFile extends BoxItem {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "PUT");
         request.addHeader("Content-Type", "application/json-patch+json");
         request.setBody(metadata.getPatch());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return request;
     }
 
     /**
@@ -1479,7 +1674,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject);
     }
 
@@ -1501,7 +1696,7 @@ public class BoxFile extends BoxItem {
         request.setBody(body.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         String sessionId = jsonObject.get("id").asString();
         BoxFileUploadSession session = new BoxFileUploadSession(this.getAPI(), sessionId);
@@ -1581,6 +1776,116 @@ public class BoxFile extends BoxItem {
             .upload(this.getAPI(), inputStream, url, fileSize, fileAttributes);
     }
 
+    /**
+     * Creates a new version of a file from a local file. The parts of the file are memory-mapped and uploaded in
+     * parallel.
+     *
+     * @param file the local file to upload.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info uploadLargeFile(Path file) throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL(), this.getID());
+        return new LargeFileUpload().upload(this.getAPI(), file, url, null);
+    }
+
+    /**
+     * Creates a new version of a file from a local file using specified number of parallel http connections.  Also
+     * sets file attributes. The parts of the file are memory-mapped and uploaded in parallel.
+     *
+     * @param file                 the local file to upload.
+     * @param nParallelConnections number of parallel http connections to use
+     * @param timeOut              time to wait before killing the job
+     * @param unit                 time unit for the time wait value
+     * @param fileAttributes       file attributes to set, or null
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info uploadLargeFile(Path file, int nParallelConnections, long timeOut, TimeUnit unit,
+                                        Map<String, String> fileAttributes)
+        throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL(), this.getID());
+        return new LargeFileUpload(nParallelConnections, timeOut, unit)
+            .upload(this.getAPI(), file, url, fileAttributes);
+    }
+
+    /**
+     * Creates a new version of a file from a local file, recording the progress in a journal file. If the upload is
+     * interrupted, calling this method again with the same arguments resumes it, uploading only the parts Box doesn't
+     * have yet.
+     *
+     * @param file    the local file to upload.
+     * @param journal the path of the journal file, which is deleted once the new version has been created.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file or writing the journal throws exception.
+     */
+    public BoxFile.Info uploadLargeFileResumable(Path file, Path journal) throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL(), this.getID());
+        return new LargeFileUpload().upload(this.getAPI(), file, url, null, journal);
+    }
+
+    /**
+     * Downloads the contents of this file to a local path by fetching byte ranges over several parallel connections.
+     * The downloaded file is verified against the SHA-1 of this file.
+     *
+     * @param destination the path to which the file will be written.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when writing the destination file throws exception.
+     */
+    public void downloadLargeFile(Path destination) throws InterruptedException, IOException {
+        new LargeFileDownload().download(this, destination);
+    }
+
+    /**
+     * Downloads the contents of this file to a local path by fetching byte ranges over a specified number of parallel
+     * connections, while reporting the progress to a ProgressListener. The downloaded file is verified against the
+     * SHA-1 of this file.
+     *
+     * @param destination          the path to which the file will be written.
+     * @param nParallelConnections number of parallel http connections to use
+     * @param timeOut              time to wait before killing the job
+     * @param unit                 time unit for the time wait value
+     * @param listener             a listener for monitoring the download's progress.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when writing the destination file throws exception.
+     */
+    public void downloadLargeFile(Path destination, int nParallelConnections, long timeOut, TimeUnit unit,
+                                  ProgressListener listener) throws InterruptedException, IOException {
+        new LargeFileDownload(nParallelConnections, LargeFileDownload.DEFAULT_RANGE_SIZE, timeOut, unit)
+            .download(this, destination, listener);
+    }
+
+    /**
+     * Downloads the contents of this file to a local path in a way that can be resumed. The byte ranges written so far
+     * are recorded in a checkpoint file next to the destination, so calling this method again after an interruption
+     * only downloads the missing bytes. If the file changed on Box in the meantime, the download starts over.
+     *
+     * @param destination the path to which the file will be written.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     * @see ResumableDownload
+     */
+    public void downloadResumable(Path destination) throws IOException {
+        this.downloadResumable(destination, null);
+    }
+
+    /**
+     * Downloads the contents of this file to a local path in a way that can be resumed, while reporting the progress
+     * to a ProgressListener. The byte ranges written so far are recorded in a checkpoint file next to the destination,
+     * so calling this method again after an interruption only downloads the missing bytes. If the file changed on Box
+     * in the meantime, the download starts over.
+     *
+     * @param destination the path to which the file will be written.
+     * @param listener    a listener for monitoring the download's progress.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     * @see ResumableDownload
+     */
+    public void downloadResumable(Path destination, ProgressListener listener) throws IOException {
+        new ResumableDownload().download(this, destination, listener);
+    }
+
     private BoxCollaboration.Info collaborate(JsonObject accessibleByField, BoxCollaboration.Role role,
                                               Boolean notify, Boolean canViewPath) {
 
@@ -1801,6 +2106,7 @@ public class BoxFile extends BoxItem {
          * @return the SHA1 hash of the file.
          */
         public String getSha1() {
+            this.decodeMember("sha1");
             return this.sha1;
         }
 
@@ -1810,6 +2116,7 @@ public class BoxFile extends BoxItem {
          * @return the lock of the file.
          */
         public BoxLock getLock() {
+            this.decodeMember("lock");
             return this.lock;
         }
 
@@ -1819,6 +2126,7 @@ public class BoxFile extends BoxItem {
          * @return the current version number of the file.
          */
         public String getVersionNumber() {
+            this.decodeMember("version_number");
             return this.versionNumber;
         }
 
@@ -1828,6 +2136,7 @@ public class BoxFile extends BoxItem {
          * @return the number of comments on the file.
          */
         public long getCommentCount() {
+            this.decodeMember("comment_count");
             return this.commentCount;
         }
 
@@ -1837,6 +2146,7 @@ public class BoxFile extends BoxItem {
          * @return the permissions that the current user has on the file.
          */
         public EnumSet<Permission> getPermissions() {
+            this.decodeMember("permissions");
             return this.permissions;
         }
 
@@ -1846,6 +2156,7 @@ public class BoxFile extends BoxItem {
          * @return the extension of the file.
          */
         public String getExtension() {
+            this.decodeMember("extension");
             return this.extension;
         }
 
@@ -1855,6 +2166,7 @@ public class BoxFile extends BoxItem {
          * @return true if the file is an OSX package; otherwise false.
          */
         public boolean getIsPackage() {
+            this.decodeMember("is_package");
             return this.isPackage;
         }
 
@@ -1864,6 +2176,7 @@ public class BoxFile extends BoxItem {
          * @return the current version details of the file.
          */
         public BoxFileVersion getVersion() {
+            this.decodeMember("file_version");
             return this.version;
         }
 
@@ -1873,6 +2186,7 @@ public class BoxFile extends BoxItem {
          * @return the expiring preview link
          */
         public URL getPreviewLink() {
+            this.decodeMember("expiring_embed_link");
             return this.previewLink;
         }
 
@@ -1882,6 +2196,7 @@ public class BoxFile extends BoxItem {
          * @return whether the file is watermarked or not
          */
         public boolean getIsWatermarked() {
+            this.decodeMember("watermark_info");
             return this.isWatermarked;
         }
 
@@ -1891,6 +2206,7 @@ public class BoxFile extends BoxItem {
          * @return the list of roles allowed for invited collaborators.
          */
         public List<String> getAllowedInviteeRoles() {
+            this.decodeMember("allowed_invitee_roles");
             return this.allowedInviteeRoles;
         }
 
@@ -1900,6 +2216,7 @@ public class BoxFile extends BoxItem {
          * @return indicator for whether this file item has collaborations.
          */
         public Boolean getHasCollaborations() {
+            this.decodeMember("has_collaborations");
             return this.hasCollaborations;
         }
 
@@ -1912,6 +2229,7 @@ public class BoxFile extends BoxItem {
          * @return the metadata returned from the server.
          */
         public Metadata getMetadata(String templateName, String scope) {
+            this.decodeMember("metadata");
             try {
                 return this.metadataMap.get(scope).get(templateName);
             } catch (NullPointerException e) {
@@ -1925,6 +2243,7 @@ public class BoxFile extends BoxItem {
          * @return indicator for whether or not the file is owned by a user outside the enterprise.
          */
         public boolean getIsExternallyOwned() {
+            this.decodeMember("is_externally_owned");
             return this.isExternallyOwned;
         }
 
@@ -1934,6 +2253,7 @@ public class BoxFile extends BoxItem {
          * @return list of representations
          */
         public List<Representation> getRepresentations() {
+            this.decodeMember("representations");
             return this.representations;
         }
 
@@ -1943,6 +2263,7 @@ public class BoxFile extends BoxItem {
          * @return user's name at the time of upload
          */
         public String getUploaderDisplayName() {
+            this.decodeMember("uploader_display_name");
             return this.uploaderDisplayName;
         }
 
@@ -1952,6 +2273,7 @@ public class BoxFile extends BoxItem {
          * @return the metadata classification type of this file.
          */
         public BoxClassification getClassification() {
+            this.decodeMember("classification");
             return this.classification;
         }
 
@@ -1961,7 +2283,8 @@ public class BoxFile extends BoxItem {
          * @return Date representing expiration timestamp
          */
         public Date getDispositionAt() {
-            return dispositionAt;
+            this.decodeMember("disposition_at");
+            return this.dispositionAt;
         }
 
         /**
@@ -1971,6 +2294,7 @@ public class BoxFile extends BoxItem {
          * @param dispositionAt Date representing expiration timestamp
          */
         public void setDispositionAt(Date dispositionAt) {
+            this.decodeMember("disposition_at");
             this.dispositionAt = dispositionAt;
             this.addPendingChange("disposition_at", BoxDateFormat.format(dispositionAt));
         }
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.MalformedURLException;
@@ -41,7 +40,7 @@ public class BoxFileRequest extends BoxResource {
         URL url = FILE_REQUEST_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         return new Info(responseJSON, this.getAPI().getBaseAppUrl());
     }
 
@@ -61,7 +60,7 @@ public class BoxFileRequest extends BoxResource {
         body.add("folder", folderBody);
         request.setBody(body.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject, this.getAPI().getBaseAppUrl());
     }
 
@@ -88,7 +87,7 @@ public class BoxFileRequest extends BoxResource {
         body.add("folder", folderBody);
         request.setBody(body.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         info.update(jsonObject);
         return new Info(jsonObject, this.getAPI().getBaseAppUrl());
     }
@@ -112,7 +111,7 @@ public class BoxFileRequest extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         info.update(jsonObject);
         return info;
     }
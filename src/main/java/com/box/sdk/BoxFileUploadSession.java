@@ -7,11 +7,11 @@ import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
@@ -33,6 +33,13 @@ public class BoxFileUploadSession extends BoxResource {
 
     private static final String OFFSET_QUERY_STRING = "offset";
     private static final String LIMIT_QUERY_STRING = "limit";
+    private static final ThreadLocal<MessageDigest> PART_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
+        } catch (NoSuchAlgorithmException ae) {
+            throw new BoxAPIException("Digest algorithm not found", ae);
+        }
+    });
 
     private Info sessionInfo;
 
@@ -78,7 +85,7 @@ public class BoxFileUploadSession extends BoxResource {
     /**
      * Uploads bytes to an open upload session.
      *
-     * @param data            data
+     * @param data            data, of which the first partSize bytes are uploaded.
      * @param offset          the byte position where the chunk begins in the file.
      * @param partSize        the part size returned as part of the upload session instance creation.
      *                        Only the last chunk can have a lesser value.
@@ -87,31 +94,102 @@ public class BoxFileUploadSession extends BoxResource {
      */
     public BoxFileUploadSessionPart uploadPart(byte[] data, long offset, int partSize,
                                                long totalSizeOfFile) {
+        return this.uploadPart(data, offset, partSize, totalSizeOfFile, computePartDigest(data, partSize));
+    }
+
+    /**
+     * Uploads bytes to an open upload session using a digest of the bytes that has already been computed, so that
+     * retrying the upload of a part doesn't hash it again.
+     *
+     * @param data            data, of which the first partSize bytes are uploaded.
+     * @param offset          the byte position where the chunk begins in the file.
+     * @param partSize        the part size returned as part of the upload session instance creation.
+     *                        Only the last chunk can have a lesser value.
+     * @param totalSizeOfFile The total size of the file being uploaded.
+     * @param partDigest      the Base64 encoded SHA-1 hash of the first partSize bytes of data.
+     * @return the part instance that contains the part id, offset and part size.
+     */
+    public BoxFileUploadSessionPart uploadPart(byte[] data, long offset, int partSize, long totalSizeOfFile,
+                                               String partDigest) {
         URL uploadPartURL = this.sessionInfo.getSessionEndpoints().getUploadPartEndpoint();
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), uploadPartURL, HttpMethod.PUT);
         request.addHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_OCTET_STREAM);
+        request.addHeader(HttpHeaders.DIGEST, DIGEST_HEADER_PREFIX_SHA + partDigest);
+        //Content-Range: bytes offset-part/totalSize
+        request.addHeader(HttpHeaders.CONTENT_RANGE,
+            "bytes " + offset + "-" + (offset + partSize - 1) + "/" + totalSizeOfFile);
 
-        MessageDigest digestInstance;
-        try {
-            digestInstance = MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
-        } catch (NoSuchAlgorithmException ae) {
-            throw new BoxAPIException("Digest algorithm not found", ae);
-        }
+        //Creates the body
+        request.setBody(data, 0, partSize);
+        return request.sendForUploadPart(this, offset);
+    }
 
-        //Creates the digest using SHA1 algorithm. Then encodes the bytes using Base64.
-        byte[] digestBytes = digestInstance.digest(data);
-        String digest = Base64.encode(digestBytes);
-        request.addHeader(HttpHeaders.DIGEST, DIGEST_HEADER_PREFIX_SHA + digest);
+    /**
+     * Uploads the remaining contents of a ByteBuffer to an open upload session. The buffer can be a memory-mapped
+     * region of a local file, which is then hashed and sent without being copied into a byte array first.
+     *
+     * @param data            the contents of the part between the buffer's position and limit.
+     * @param offset          the byte position where the chunk begins in the file.
+     * @param totalSizeOfFile The total size of the file being uploaded.
+     * @return the part instance that contains the part id, offset and part size.
+     */
+    public BoxFileUploadSessionPart uploadPart(ByteBuffer data, long offset, long totalSizeOfFile) {
+        return this.uploadPart(data, offset, totalSizeOfFile, computePartDigest(data));
+    }
+
+    /**
+     * Uploads the remaining contents of a ByteBuffer to an open upload session using a digest of the contents that has
+     * already been computed.
+     *
+     * @param data            the contents of the part between the buffer's position and limit.
+     * @param offset          the byte position where the chunk begins in the file.
+     * @param totalSizeOfFile The total size of the file being uploaded.
+     * @param partDigest      the Base64 encoded SHA-1 hash of the contents of the part.
+     * @return the part instance that contains the part id, offset and part size.
+     */
+    public BoxFileUploadSessionPart uploadPart(ByteBuffer data, long offset, long totalSizeOfFile,
+                                               String partDigest) {
+        URL uploadPartURL = this.sessionInfo.getSessionEndpoints().getUploadPartEndpoint();
+
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), uploadPartURL, HttpMethod.PUT);
+        request.addHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_OCTET_STREAM);
+        request.addHeader(HttpHeaders.DIGEST, DIGEST_HEADER_PREFIX_SHA + partDigest);
         //Content-Range: bytes offset-part/totalSize
         request.addHeader(HttpHeaders.CONTENT_RANGE,
-            "bytes " + offset + "-" + (offset + partSize - 1) + "/" + totalSizeOfFile);
+            "bytes " + offset + "-" + (offset + data.remaining() - 1) + "/" + totalSizeOfFile);
 
         //Creates the body
-        request.setBody(new ByteArrayInputStream(data));
+        request.setBody(data);
         return request.sendForUploadPart(this, offset);
     }
 
+    /**
+     * Creates the digest of a part using SHA1 algorithm. Then encodes the bytes using Base64. The MessageDigest is
+     * reused by the calling thread for later parts.
+     *
+     * @param data   the data of the part.
+     * @param length the number of bytes at the start of data that belong to the part.
+     * @return the Base64 encoded hash of the part.
+     */
+    static String computePartDigest(byte[] data, int length) {
+        MessageDigest digest = PART_DIGEST.get();
+        digest.update(data, 0, length);
+        return Base64.encode(digest.digest());
+    }
+
+    /**
+     * Creates the Base64 encoded SHA1 digest of the remaining contents of a ByteBuffer without changing its position.
+     *
+     * @param data the contents of the part between the buffer's position and limit.
+     * @return the Base64 encoded hash of the part.
+     */
+    static String computePartDigest(ByteBuffer data) {
+        MessageDigest digest = PART_DIGEST.get();
+        digest.update(data.duplicate());
+        return Base64.encode(digest.digest());
+    }
+
     /**
      * Returns a list of all parts that have been uploaded to an upload session.
      *
@@ -132,7 +210,7 @@ public class BoxFileUploadSession extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, HttpMethod.GET);
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         return new BoxFileUploadSessionPartList(jsonObject);
     }
@@ -184,7 +262,7 @@ public class BoxFileUploadSession extends BoxResource {
         }
 
         //Creates the body of the request
-        String body = this.getCommitBody(parts, attributes);
+        JsonObject body = this.getCommitBody(parts, attributes);
         request.setBody(body);
 
         BoxAPIResponse response = request.send();
@@ -215,7 +293,7 @@ public class BoxFileUploadSession extends BoxResource {
      * Creates the file isntance from the JSON body of the response.
      */
     private BoxFile.Info getFile(BoxJSONResponse response) {
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         JsonArray array = (JsonArray) jsonObject.get("entries");
         JsonObject fileObj = (JsonObject) array.get(0);
@@ -228,7 +306,7 @@ public class BoxFileUploadSession extends BoxResource {
     /*
      * Creates the JSON body for the commit request.
      */
-    private String getCommitBody(List<BoxFileUploadSessionPart> parts, Map<String, String> attributes) {
+    private JsonObject getCommitBody(List<BoxFileUploadSessionPart> parts, Map<String, String> attributes) {
         JsonObject jsonObject = new JsonObject();
 
         JsonArray array = new JsonArray();
@@ -250,7 +328,7 @@ public class BoxFileUploadSession extends BoxResource {
             jsonObject.add("attributes", attrObj);
         }
 
-        return jsonObject.toString();
+        return jsonObject;
     }
 
     /**
@@ -263,7 +341,7 @@ public class BoxFileUploadSession extends BoxResource {
         URL statusURL = this.sessionInfo.getSessionEndpoints().getStatusEndpoint();
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), statusURL, HttpMethod.GET);
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         this.sessionInfo.update(jsonObject);
 
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.Date;
 
@@ -23,7 +24,6 @@ public class BoxFileVersion extends BoxResource {
      * Version URL Template.
      */
     public static final URLTemplate VERSION_URL_TEMPLATE = new URLTemplate("files/%s/versions/%s");
-    private static final int BUFFER_SIZE = 8192;
 
     private String fileID;
 
@@ -291,18 +291,81 @@ public class BoxFileVersion extends BoxResource {
         BoxAPIResponse response = request.send();
         InputStream input = response.getBody(listener);
 
-        byte[] buffer = new byte[BUFFER_SIZE];
         try {
-            int n = input.read(buffer);
-            while (n != -1) {
-                output.write(buffer, 0, n);
-                n = input.read(buffer);
-            }
+            BoxAPIRequest.copyStream(input, output);
         } catch (IOException e) {
             throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        } finally {
+            response.disconnect();
         }
+    }
 
-        response.disconnect();
+    /**
+     * Downloads a part of this version of the file, starting at rangeStart and stopping at rangeEnd.
+     *
+     * @param output     the stream to where the file will be written.
+     * @param rangeStart the byte offset at which to start the download.
+     * @param rangeEnd   the byte offset at which to stop the download.
+     */
+    public void downloadRange(OutputStream output, long rangeStart, long rangeEnd) {
+        this.downloadRange(output, rangeStart, rangeEnd, null);
+    }
+
+    /**
+     * Downloads a part of this version of the file, starting at rangeStart and stopping at rangeEnd, while reporting
+     * the progress to a ProgressListener.
+     *
+     * @param output     the stream to where the file will be written.
+     * @param rangeStart the byte offset at which to start the download.
+     * @param rangeEnd   the byte offset at which to stop the download.
+     * @param listener   a listener for monitoring the download's progress.
+     */
+    public void downloadRange(OutputStream output, long rangeStart, long rangeEnd, ProgressListener listener) {
+        URL url = CONTENT_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.fileID, this.getID());
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        if (rangeEnd > 0) {
+            request.addHeader("Range", String.format("bytes=%s-%s", rangeStart, rangeEnd));
+        } else {
+            request.addHeader("Range", String.format("bytes=%s-", rangeStart));
+        }
+
+        BoxAPIResponse response = request.send();
+        InputStream input = response.getBody(listener);
+
+        try {
+            BoxAPIRequest.copyStream(input, output);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    /**
+     * Downloads this version of the file to a local path in a way that can be resumed. The byte ranges written so far
+     * are recorded in a checkpoint file next to the destination, so calling this method again after an interruption
+     * only downloads the missing bytes.
+     *
+     * @param destination the path to which the file will be written.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     * @see ResumableDownload
+     */
+    public void downloadResumable(Path destination) throws IOException {
+        this.downloadResumable(destination, null);
+    }
+
+    /**
+     * Downloads this version of the file to a local path in a way that can be resumed, while reporting the progress
+     * to a ProgressListener. The byte ranges written so far are recorded in a checkpoint file next to the
+     * destination, so calling this method again after an interruption only downloads the missing bytes.
+     *
+     * @param destination the path to which the file will be written.
+     * @param listener    a listener for monitoring the download's progress.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     * @see ResumableDownload
+     */
+    public void downloadResumable(Path destination, ProgressListener listener) throws IOException {
+        new ResumableDownload().download(this, destination, listener);
     }
 
     /**
@@ -318,6 +381,6 @@ public class BoxFileVersion extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(jsonObject.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        this.parseJSON(Json.parse(response.getJSON()).asObject());
+        this.parseJSON(response.getJsonObject());
     }
 }
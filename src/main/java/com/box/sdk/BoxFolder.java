@@ -6,13 +6,14 @@ import static com.box.sdk.PagingParameters.offset;
 
 import com.box.sdk.internal.utils.Parsers;
 import com.box.sdk.sharedlink.BoxSharedLinkRequest;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -20,6 +21,8 @@ import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -295,7 +298,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int entriesCount = responseJSON.get("total_count").asInt();
         Collection<BoxCollaboration.Info> collaborations = new ArrayList<>(entriesCount);
@@ -315,7 +318,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         URL url = FOLDER_INFO_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     @Override
@@ -325,7 +328,28 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously gets information about this folder. If no fields are given, then the default set of fields is
+     * returned.
+     *
+     * @param fields the fields to retrieve.
+     * @return a future that completes with info about this folder containing only the specified fields.
+     * @see #getInfo(String...)
+     */
+    public CompletableFuture<BoxFolder.Info> getInfoAsync(String... fields) {
+        URL url;
+        if (fields.length == 0) {
+            url = FOLDER_INFO_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
+        } else {
+            String queryString = new QueryStringBuilder().appendParam("fields", fields).toString();
+            url = FOLDER_INFO_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), queryString, this.getID());
+        }
+
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        return request.sendAsync().thenApply(response -> new Info(((BoxJSONResponse) response).getJsonObject()));
     }
 
     /**
@@ -334,12 +358,31 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
      * @param info the updated info.
      */
     public void updateInfo(BoxFolder.Info info) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createUpdateInfoRequest(info).send();
+        JsonObject jsonObject = response.getJsonObject();
+        info.update(jsonObject);
+    }
+
+    /**
+     * Asynchronously updates the information about this folder with any info fields that have been modified locally.
+     * The given info object is updated with the server's response before the returned future completes.
+     *
+     * @param info the updated info.
+     * @return a future that completes with the updated info.
+     * @see #updateInfo(BoxFolder.Info)
+     */
+    public CompletableFuture<BoxFolder.Info> updateInfoAsync(BoxFolder.Info info) {
+        return this.createUpdateInfoRequest(info).sendAsync().thenApply(response -> {
+            info.update(((BoxJSONResponse) response).getJsonObject());
+            return info;
+        });
+    }
+
+    private BoxJSONRequest createUpdateInfoRequest(BoxFolder.Info info) {
         URL url = FOLDER_INFO_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-        info.update(jsonObject);
+        return request;
     }
 
     @Override
@@ -349,6 +392,24 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
     @Override
     public BoxFolder.Info copy(BoxFolder destination, String newName) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createCopyRequest(destination, newName).send();
+        return this.parseResultingFolderInfo(response);
+    }
+
+    /**
+     * Asynchronously copies this folder and its contents to another folder.
+     *
+     * @param destination the destination folder.
+     * @param newName     an optional new name for the copied folder.
+     * @return a future that completes with info about the copied folder.
+     * @see #copy(BoxFolder, String)
+     */
+    public CompletableFuture<BoxFolder.Info> copyAsync(BoxFolder destination, String newName) {
+        return this.createCopyRequest(destination, newName).sendAsync()
+            .thenApply(response -> this.parseResultingFolderInfo((BoxJSONResponse) response));
+    }
+
+    private BoxJSONRequest createCopyRequest(BoxFolder destination, String newName) {
         URL url = COPY_FOLDER_URL.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
 
@@ -362,10 +423,13 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         }
 
         request.setBody(copyInfo.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-        BoxFolder copiedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
-        return copiedFolder.new Info(responseJSON);
+        return request;
+    }
+
+    private BoxFolder.Info parseResultingFolderInfo(BoxJSONResponse response) {
+        JsonObject responseJSON = response.getJsonObject();
+        BoxFolder resultingFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
+        return resultingFolder.new Info(responseJSON);
     }
 
     /**
@@ -386,7 +450,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
             "POST");
         request.setBody(newFolder.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFolder createdFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
         return createdFolder.new Info(responseJSON);
@@ -398,12 +462,25 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
      * @param recursive true to recursively delete this folder's contents; otherwise false.
      */
     public void delete(boolean recursive) {
-        URL url = DELETE_FOLDER_URL.buildAlpha(this.getAPI().getBaseURL(), this.getID(), recursive);
-        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "DELETE");
-        BoxAPIResponse response = request.send();
+        BoxAPIResponse response = this.createDeleteRequest(recursive).send();
         response.disconnect();
     }
 
+    /**
+     * Asynchronously deletes this folder, optionally recursively deleting all of its contents.
+     *
+     * @param recursive true to recursively delete this folder's contents; otherwise false.
+     * @return a future that completes once the folder has been deleted.
+     */
+    public CompletableFuture<Void> deleteAsync(boolean recursive) {
+        return this.createDeleteRequest(recursive).sendAsync().thenAccept(BoxAPIResponse::disconnect);
+    }
+
+    private BoxAPIRequest createDeleteRequest(boolean recursive) {
+        URL url = DELETE_FOLDER_URL.buildAlpha(this.getAPI().getBaseURL(), this.getID(), recursive);
+        return new BoxAPIRequest(this.getAPI(), url, "DELETE");
+    }
+
     @Override
     public BoxItem.Info move(BoxFolder destination) {
         return this.move(destination, null);
@@ -411,6 +488,24 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
     @Override
     public BoxItem.Info move(BoxFolder destination, String newName) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createMoveRequest(destination, newName).send();
+        return this.parseResultingFolderInfo(response);
+    }
+
+    /**
+     * Asynchronously moves this folder to another folder.
+     *
+     * @param destination the destination folder.
+     * @param newName     an optional new name for the moved folder.
+     * @return a future that completes with info about the moved folder.
+     * @see #move(BoxFolder, String)
+     */
+    public CompletableFuture<BoxItem.Info> moveAsync(BoxFolder destination, String newName) {
+        return this.createMoveRequest(destination, newName).sendAsync()
+            .thenApply(response -> this.parseResultingFolderInfo((BoxJSONResponse) response));
+    }
+
+    private BoxJSONRequest createMoveRequest(BoxFolder destination, String newName) {
         URL url = FOLDER_INFO_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
 
@@ -424,10 +519,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         }
 
         request.setBody(updateInfo.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-        BoxFolder movedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
-        return movedFolder.new Info(responseJSON);
+        return request;
     }
 
     /**
@@ -444,7 +536,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(updateInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        response.getJSON();
+        response.disconnect();
     }
 
     /**
@@ -468,7 +560,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(preflightInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        response.getJSON();
+        response.disconnect();
     }
 
     /**
@@ -485,6 +577,21 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         return this.uploadFile(uploadInfo);
     }
 
+    /**
+     * Uploads a local file to this folder. The file is read directly from disk on each attempt, so the upload can be
+     * retried if it fails.
+     *
+     * @param file the path of the file to upload.
+     * @param name the name to give the uploaded file.
+     * @return the uploaded file's info.
+     */
+    public BoxFile.Info uploadFile(Path file, String name) {
+        FileUploadParams uploadInfo = new FileUploadParams()
+            .setContent(file)
+            .setName(name);
+        return this.uploadFile(uploadInfo);
+    }
+
     /**
      * Uploads a new file to this folder.
      *
@@ -567,7 +674,17 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.putField("attributes", fieldJSON.toString());
 
-        if (uploadParams.getSize() > 0) {
+        if (uploadParams.getContentFile() != null || uploadParams.getContentChannel() != null) {
+            try {
+                if (uploadParams.getContentFile() != null) {
+                    request.setFile(uploadParams.getContentFile(), uploadParams.getName());
+                } else {
+                    request.setFile(uploadParams.getContentChannel(), uploadParams.getName());
+                }
+            } catch (IOException e) {
+                throw new BoxAPIException("Couldn't read the size of the file to upload.", e);
+            }
+        } else if (uploadParams.getSize() > 0) {
             request.setFile(uploadParams.getContent(), uploadParams.getName(), uploadParams.getSize());
         } else if (uploadParams.getContent() != null) {
             request.setFile(uploadParams.getContent(), uploadParams.getName());
@@ -581,7 +698,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         } else {
             response = (BoxJSONResponse) request.send(uploadParams.getProgressListener());
         }
-        JsonObject collection = Json.parse(response.getJSON()).asObject();
+        JsonObject collection = response.getJsonObject();
         JsonArray entries = collection.get("entries").asArray();
         JsonObject fileInfoJSON = entries.get(0).asObject();
         String uploadedFileID = fileInfoJSON.get("id").asString();
@@ -649,7 +766,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
             CREATE_WEB_LINK_URL.build(this.getAPI().getBaseURL()), "POST");
         request.setBody(newWebLink.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxWebLink createdWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
         return createdWebLink.new Info(responseJSON);
@@ -680,6 +797,27 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         };
     }
 
+    /**
+     * Returns an iterable containing compact projections of the items in this folder, holding only a few fields.
+     *
+     * <p>The projections don't keep the JSON returned by the API, so this method is better suited than
+     * {@link #getChildren(String...)} to keeping the listings of very large folders in memory. See
+     * {@link BoxItemProjection} for the fields that a projection can hold.</p>
+     *
+     * @param fields the fields to retrieve, such as "name", "size" or "sha1".
+     * @return an iterable containing projections of the items in this folder.
+     */
+    public Iterable<BoxItemProjection> getChildrenProjection(final String... fields) {
+        return () -> {
+            QueryStringBuilder builder = new QueryStringBuilder();
+            if (fields.length > 0) {
+                builder.appendParam("fields", fields);
+            }
+            URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
+            return new BoxItemProjectionIterator(getAPI(), url, marker(DEFAULT_LIMIT));
+        };
+    }
+
     /**
      * Returns an iterable containing the items in this folder sorted by name and direction.
      *
@@ -749,7 +887,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         String totalCountString = responseJSON.get("total_count").toString();
         long fullSize = Double.valueOf(totalCountString).longValue();
@@ -886,7 +1024,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject);
     }
 
@@ -921,12 +1059,17 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
      * @return the metadata returned from the server.
      */
     public Metadata createMetadata(String templateName, String scope, Metadata metadata) {
+        BoxJSONResponse response =
+            (BoxJSONResponse) this.createCreateMetadataRequest(templateName, scope, metadata).send();
+        return new Metadata(response.getJsonObject());
+    }
+
+    private BoxAPIRequest createCreateMetadataRequest(String templateName, String scope, Metadata metadata) {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, templateName);
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "POST");
         request.addHeader("Content-Type", "application/json");
         request.setBody(metadata.toString());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return request;
     }
 
     /**
@@ -954,6 +1097,39 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         }
     }
 
+    /**
+     * Asynchronously sets the provided metadata on the folder. If metadata has already been created on this folder,
+     * it overwrites metadata keys specified in the `metadata` param.
+     *
+     * @param templateName the name of the metadata template.
+     * @param scope        the scope of the template (usually "global" or "enterprise").
+     * @param metadata     the new metadata values.
+     * @return a future that completes with the metadata returned from the server.
+     * @see #setMetadata(String, String, Metadata)
+     */
+    public CompletableFuture<Metadata> setMetadataAsync(String templateName, String scope, Metadata metadata) {
+        return this.createCreateMetadataRequest(templateName, scope, metadata).sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()))
+            .handle((created, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture(created);
+                }
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof BoxAPIException && ((BoxAPIException) cause).getResponseCode() == 409) {
+                    if (metadata.getOperations().isEmpty()) {
+                        return this.getMetadataAsync(Metadata.DEFAULT_METADATA_TYPE,
+                            Metadata.scopeBasedOnType(Metadata.DEFAULT_METADATA_TYPE));
+                    } else {
+                        return this.updateMetadataAsync(this.toMetadataUpdate(templateName, scope, metadata));
+                    }
+                }
+                CompletableFuture<Metadata> failed = new CompletableFuture<>();
+                failed.completeExceptionally(cause);
+                return failed;
+            })
+            .thenCompose(future -> future);
+    }
+
     /**
      * Throws IllegalArgumentException exception when sorting and marker pagination is selected.
      *
@@ -970,6 +1146,10 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
     }
 
     private Metadata updateExistingTemplate(String templateName, String scope, Metadata metadata) {
+        return this.updateMetadata(this.toMetadataUpdate(templateName, scope, metadata));
+    }
+
+    private Metadata toMetadataUpdate(String templateName, String scope, Metadata metadata) {
         Metadata metadataToUpdate = new Metadata(scope, templateName);
         for (JsonValue value : metadata.getOperations()) {
             if (value.asObject().get("value").isNumber()) {
@@ -986,7 +1166,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
                 metadataToUpdate.add(value.asObject().get("path").asString(), list);
             }
         }
-        return this.updateMetadata(metadataToUpdate);
+        return metadataToUpdate;
     }
 
     /**
@@ -1020,7 +1200,22 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, templateName);
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return new Metadata(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously gets the metadata on this folder associated with a specified scope and template.
+     *
+     * @param templateName the metadata template type name.
+     * @param scope        the scope of the template (usually "global" or "enterprise").
+     * @return a future that completes with the metadata returned from the server.
+     * @see #getMetadata(String, String)
+     */
+    public CompletableFuture<Metadata> getMetadataAsync(String templateName, String scope) {
+        URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, templateName);
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        return request.sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()));
     }
 
     /**
@@ -1030,13 +1225,29 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
      * @return the metadata returned from the server.
      */
     public Metadata updateMetadata(Metadata metadata) {
+        BoxJSONResponse response = (BoxJSONResponse) this.createUpdateMetadataRequest(metadata).send();
+        return new Metadata(response.getJsonObject());
+    }
+
+    /**
+     * Asynchronously updates the folder metadata.
+     *
+     * @param metadata the new metadata values.
+     * @return a future that completes with the metadata returned from the server.
+     * @see #updateMetadata(Metadata)
+     */
+    public CompletableFuture<Metadata> updateMetadataAsync(Metadata metadata) {
+        return this.createUpdateMetadataRequest(metadata).sendAsync()
+            .thenApply(response -> new Metadata(((BoxJSONResponse) response).getJsonObject()));
+    }
+
+    private BoxAPIRequest createUpdateMetadataRequest(Metadata metadata) {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), metadata.getScope(),
             metadata.getTemplateName());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "PUT");
         request.addHeader("Content-Type", "application/json-patch+json");
         request.setBody(metadata.getPatch());
-        BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Metadata(Json.parse(response.getJSON()).asObject());
+        return request;
     }
 
     /**
@@ -1159,7 +1370,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         request.setBody(body.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         String sessionId = jsonObject.get("id").asString();
         BoxFileUploadSession session = new BoxFileUploadSession(this.getAPI(), sessionId);
@@ -1251,6 +1462,62 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
             upload(this.getAPI(), this.getID(), inputStream, url, fileName, fileSize, fileAttributes);
     }
 
+    /**
+     * Creates a new file from a local file. The parts of the file are memory-mapped and uploaded in parallel.
+     *
+     * @param file     the local file to upload.
+     * @param fileName the name of the file to be created.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info uploadLargeFile(Path file, String fileName) throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL());
+        this.canUpload(fileName, Files.size(file));
+        return new LargeFileUpload().upload(this.getAPI(), this.getID(), file, url, fileName, null);
+    }
+
+    /**
+     * Creates a new file from a local file using specified number of parallel http connections.  Also sets file
+     * attributes. The parts of the file are memory-mapped and uploaded in parallel.
+     *
+     * @param file                 the local file to upload.
+     * @param fileName             the name of the file to be created.
+     * @param nParallelConnections number of parallel http connections to use
+     * @param timeOut              time to wait before killing the job
+     * @param unit                 time unit for the time wait value
+     * @param fileAttributes       file attributes to set, or null
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info uploadLargeFile(Path file, String fileName, int nParallelConnections, long timeOut,
+                                        TimeUnit unit, Map<String, String> fileAttributes)
+        throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL());
+        this.canUpload(fileName, Files.size(file));
+        return new LargeFileUpload(nParallelConnections, timeOut, unit).
+            upload(this.getAPI(), this.getID(), file, url, fileName, fileAttributes);
+    }
+
+    /**
+     * Creates a new file from a local file, recording the progress in a journal file. If the upload is interrupted,
+     * calling this method again with the same arguments resumes it, uploading only the parts Box doesn't have yet.
+     *
+     * @param file     the local file to upload.
+     * @param fileName the name of the file to be created.
+     * @param journal  the path of the journal file, which is deleted once the file has been created.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread execution is interrupted.
+     * @throws IOException          when reading the file or writing the journal throws exception.
+     */
+    public BoxFile.Info uploadLargeFileResumable(Path file, String fileName, Path journal)
+        throws InterruptedException, IOException {
+        URL url = UPLOAD_SESSION_URL_TEMPLATE.build(this.getAPI().getBaseUploadURL());
+        this.canUpload(fileName, Files.size(file));
+        return new LargeFileUpload().upload(this.getAPI(), this.getID(), file, url, fileName, null, journal);
+    }
+
     /**
      * Creates a new Metadata Cascade Policy on a folder.
      *
@@ -1311,7 +1578,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
                 "POST");
         request.setBody(body.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFolderLock createdFolderLock = new BoxFolderLock(this.getAPI(), responseJSON.get("id").asString());
         return createdFolderLock.new Info(responseJSON);
@@ -1487,6 +1754,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the upload email for the folder.
          */
         public BoxUploadEmail getUploadEmail() {
+            this.decodeMember("folder_upload_email");
             return this.uploadEmail;
         }
 
@@ -1496,6 +1764,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @param uploadEmail the upload email for the folder.
          */
         public void setUploadEmail(BoxUploadEmail uploadEmail) {
+            this.decodeMember("folder_upload_email");
             if (this.uploadEmail == uploadEmail) {
                 return;
             }
@@ -1516,6 +1785,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return true if the folder has collaborations; otherwise false.
          */
         public boolean getHasCollaborations() {
+            this.decodeMember("has_collaborations");
             return this.hasCollaborations;
         }
 
@@ -1525,6 +1795,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the sync state of the folder.
          */
         public SyncState getSyncState() {
+            this.decodeMember("sync_state");
             return this.syncState;
         }
 
@@ -1534,6 +1805,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @param syncState the sync state of the folder.
          */
         public void setSyncState(SyncState syncState) {
+            this.decodeMember("sync_state");
             this.syncState = syncState;
             this.addPendingChange("sync_state", syncState.toJSONValue());
         }
@@ -1544,6 +1816,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the permissions that the current user has on the folder.
          */
         public EnumSet<Permission> getPermissions() {
+            this.decodeMember("permissions");
             return this.permissions;
         }
 
@@ -1553,6 +1826,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return [description]
          */
         public boolean getCanNonOwnersInvite() {
+            this.decodeMember("can_non_owners_invite");
             return this.canNonOwnersInvite;
         }
 
@@ -1562,6 +1836,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @param canNonOwnersInvite indicates non-owners can invite collaborators to the folder.
          */
         public void setCanNonOwnersInvite(boolean canNonOwnersInvite) {
+            this.decodeMember("can_non_owners_invite");
             this.canNonOwnersInvite = canNonOwnersInvite;
             this.addPendingChange("can_non_owners_invite", canNonOwnersInvite);
         }
@@ -1572,6 +1847,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return indicates whether collaboration is restricted to enterprise only.
          */
         public boolean getIsCollaborationRestrictedToEnterprise() {
+            this.decodeMember("is_collaboration_restricted_to_enterprise");
             return this.isCollaborationRestrictedToEnterprise;
         }
 
@@ -1581,6 +1857,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @param isRestricted indicates whether there is collaboration restriction within enterprise.
          */
         public void setIsCollaborationRestrictedToEnterprise(boolean isRestricted) {
+            this.decodeMember("is_collaboration_restricted_to_enterprise");
             this.isCollaborationRestrictedToEnterprise = isRestricted;
             this.addPendingChange("is_collaboration_restricted_to_enterprise", isRestricted);
         }
@@ -1591,6 +1868,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the roles allowed for collaboration.
          */
         public List<String> getAllowedInviteeRoles() {
+            this.decodeMember("allowed_invitee_roles");
             return this.allowedInviteeRoles;
         }
 
@@ -1600,6 +1878,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the allowed access levels for a shared link.
          */
         public List<String> getAllowedSharedLinkAccessLevels() {
+            this.decodeMember("allowed_shared_link_access_levels");
             return this.allowedSharedLinkAccessLevels;
         }
 
@@ -1609,6 +1888,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return whether the file is watermarked or not
          */
         public boolean getIsWatermarked() {
+            this.decodeMember("watermark_info");
             return this.isWatermarked;
         }
 
@@ -1621,6 +1901,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the metadata returned from the server.
          */
         public Metadata getMetadata(String templateName, String scope) {
+            this.decodeMember("metadata");
             try {
                 return this.metadataMap.get(scope).get(templateName);
             } catch (NullPointerException e) {
@@ -1635,6 +1916,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return a boolean indicating whether this folder is owned by a user outside the enterprise.
          */
         public boolean getIsExternallyOwned() {
+            this.decodeMember("is_externally_owned");
             return this.isExternallyOwned;
         }
 
@@ -1644,6 +1926,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the metadata classification type of this folder.
          */
         public BoxClassification getClassification() {
+            this.decodeMember("classification");
             return this.classification;
         }
 
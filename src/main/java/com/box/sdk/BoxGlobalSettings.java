@@ -7,6 +7,7 @@ public final class BoxGlobalSettings {
     private static int connectTimeout = 0;
     private static int readTimeout = 0;
     private static int maxRetryAttempts = BoxAPIConnection.DEFAULT_MAX_RETRIES;
+    private static volatile BoxJSONCodec jsonCodec = MinimalJSONCodec.INSTANCE;
 
     private BoxGlobalSettings() {
     }
@@ -92,4 +93,27 @@ public final class BoxGlobalSettings {
     public static void setMaxRetryAttempts(int attempts) {
         BoxGlobalSettings.maxRetryAttempts = attempts;
     }
+
+    /**
+     * Returns the codec used to read and write the JSON of API requests and responses.
+     *
+     * @return the JSON codec
+     */
+    public static BoxJSONCodec getJSONCodec() {
+        return jsonCodec;
+    }
+
+    /**
+     * Sets the codec used to read and write the JSON of API requests and responses. By default, JSON is read and
+     * written with minimal-json.
+     *
+     * @param codec the JSON codec, or null to use the default codec
+     */
+    public static void setJSONCodec(BoxJSONCodec codec) {
+        if (codec == null) {
+            BoxGlobalSettings.jsonCodec = MinimalJSONCodec.INSTANCE;
+        } else {
+            BoxGlobalSettings.jsonCodec = codec;
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -68,7 +67,7 @@ public abstract class BoxItem extends BoxResource {
         URL url = SHARED_ITEM_URL_TEMPLATE.build(newAPI.getBaseURL());
         BoxAPIRequest request = new BoxAPIRequest(newAPI, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject json = Json.parse(response.getJSON()).asObject();
+        JsonObject json = response.getJsonObject();
         return (BoxItem.Info) BoxResource.parseInfo(newAPI, json);
     }
 
@@ -96,7 +95,7 @@ public abstract class BoxItem extends BoxResource {
         URL url = WATERMARK_URL_TEMPLATE.buildWithQuery(watermarkUrl.toString(), builder.toString());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new BoxWatermark(response.getJSON());
+        return new BoxWatermark(response.getJsonObject());
     }
 
     /**
@@ -115,7 +114,7 @@ public abstract class BoxItem extends BoxResource {
                 .add(BoxWatermark.WATERMARK_IMPRINT_JSON_KEY, imprint));
         request.setBody(body.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new BoxWatermark(response.getJSON());
+        return new BoxWatermark(response.getJsonObject());
     }
 
     /**
@@ -265,6 +264,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the item's type.
          */
         public String getType() {
+            this.decodeMember("type");
             return this.type;
         }
 
@@ -274,6 +274,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a unique string identifying the version of the item.
          */
         public String getEtag() {
+            this.decodeMember("etag");
             return this.etag;
         }
 
@@ -283,6 +284,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the name of the item.
          */
         public String getName() {
+            this.decodeMember("name");
             return this.name;
         }
 
@@ -292,6 +294,7 @@ public abstract class BoxItem extends BoxResource {
          * @param name the new name of the item.
          */
         public void setName(String name) {
+            this.decodeMember("name");
             this.name = name;
             this.addPendingChange("name", name);
         }
@@ -302,6 +305,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time the item was created.
          */
         public Date getCreatedAt() {
+            this.decodeMember("created_at");
             return this.createdAt;
         }
 
@@ -311,6 +315,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time the item was last modified.
          */
         public Date getModifiedAt() {
+            this.decodeMember("modified_at");
             return this.modifiedAt;
         }
 
@@ -320,6 +325,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the description of the item.
          */
         public String getDescription() {
+            this.decodeMember("description");
             return this.description;
         }
 
@@ -329,6 +335,7 @@ public abstract class BoxItem extends BoxResource {
          * @param description the new description of the item.
          */
         public void setDescription(String description) {
+            this.decodeMember("description");
             this.description = description;
             this.addPendingChange("description", description);
         }
@@ -339,6 +346,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the size of the item in bytes.
          */
         public long getSize() {
+            this.decodeMember("size");
             return this.size;
         }
 
@@ -348,6 +356,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the path of folders to the item.
          */
         public List<BoxFolder.Info> getPathCollection() {
+            this.decodeMember("path_collection");
             return this.pathCollection;
         }
 
@@ -357,6 +366,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who created the item.
          */
         public BoxUser.Info getCreatedBy() {
+            this.decodeMember("created_by");
             return this.createdBy;
         }
 
@@ -366,6 +376,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who last modified the item.
          */
         public BoxUser.Info getModifiedBy() {
+            this.decodeMember("modified_by");
             return this.modifiedBy;
         }
 
@@ -375,6 +386,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was trashed.
          */
         public Date getTrashedAt() {
+            this.decodeMember("trashed_at");
             return this.trashedAt;
         }
 
@@ -384,6 +396,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was purged from the trash.
          */
         public Date getPurgedAt() {
+            this.decodeMember("purged_at");
             return this.purgedAt;
         }
 
@@ -393,6 +406,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was created according to the uploader.
          */
         public Date getContentCreatedAt() {
+            this.decodeMember("content_created_at");
             return this.contentCreatedAt;
         }
 
@@ -402,6 +416,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was last modified according to the uploader.
          */
         public Date getContentModifiedAt() {
+            this.decodeMember("content_modified_at");
             return this.contentModifiedAt;
         }
 
@@ -411,6 +426,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item will expire at.
          */
         public Date getExpiresAt() {
+            this.decodeMember("expires_at");
             return this.expiresAt;
         }
 
@@ -420,6 +436,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who owns the item.
          */
         public BoxUser.Info getOwnedBy() {
+            this.decodeMember("owned_by");
             return this.ownedBy;
         }
 
@@ -429,6 +446,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the shared link for the item.
          */
         public BoxSharedLink getSharedLink() {
+            this.decodeMember("shared_link");
             return this.sharedLink;
         }
 
@@ -438,6 +456,7 @@ public abstract class BoxItem extends BoxResource {
          * @param sharedLink the shared link for the item.
          */
         public void setSharedLink(BoxSharedLink sharedLink) {
+            this.decodeMember("shared_link");
             this.removeChildObject("shared_link");
             this.sharedLink = sharedLink;
             this.addChildObject("shared_link", sharedLink);
@@ -456,6 +475,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a unique ID for use with the EventStream.
          */
         public String getSequenceID() {
+            this.decodeMember("sequence_id");
             return this.sequenceID;
         }
 
@@ -468,6 +488,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a list of all the tags applied to the item.
          */
         public List<String> getTags() {
+            this.decodeMember("tags");
             return this.tags;
         }
 
@@ -477,6 +498,7 @@ public abstract class BoxItem extends BoxResource {
          * @param tags The new tags for the item.
          */
         public void setTags(List<String> tags) {
+            this.decodeMember("tags");
             this.tags = tags;
             JsonArray tagsJSON = new JsonArray();
             for (String tag : tags) {
@@ -491,6 +513,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the parent folder of the item.
          */
         public BoxFolder.Info getParent() {
+            this.decodeMember("parent");
             return this.parent;
         }
 
@@ -500,6 +523,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the status of the item.
          */
         public String getItemStatus() {
+            this.decodeMember("item_status");
             return this.itemStatus;
         }
 
@@ -509,6 +533,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the collections that this item belongs to.
          */
         public Iterable<BoxCollection.Info> getCollections() {
+            this.decodeMember("collections");
             return this.collections;
         }
 
@@ -518,6 +543,7 @@ public abstract class BoxItem extends BoxResource {
          * @param collections the new list of collections that this item should belong to.
          */
         public void setCollections(Iterable<BoxCollection> collections) {
+            this.decodeMember("collections");
             if (this.collections == null) {
                 this.collections = new HashSet<BoxCollection.Info>();
             } else {
@@ -534,6 +560,12 @@ public abstract class BoxItem extends BoxResource {
             this.addPendingChange("collections", jsonArray);
         }
 
+        @Override
+        boolean decodesMembersLazily() {
+            BoxAPIConnection api = BoxItem.this.getAPI();
+            return api != null && api.getLazyInfoDecoding();
+        }
+
         @Override
         protected void parseJSONMember(JsonObject.Member member) {
             super.parseJSONMember(member);
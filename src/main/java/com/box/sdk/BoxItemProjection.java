@@ -0,0 +1,209 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+/**
+ * A compact, immutable view of a few fields of an item in a folder listing.
+ *
+ * <p>Unlike {@link BoxItem.Info}, a projection keeps neither the JSON returned by the API nor a {@link BoxResource},
+ * and it holds its fields in plain String and long slots. It's meant for listing very large folders when only a few
+ * fields are needed, for example with {@link BoxFolder#getChildrenProjection(String...)}. Fields that weren't
+ * requested, or weren't returned by the API, are null for strings and {@link #UNKNOWN} for numbers.</p>
+ */
+public final class BoxItemProjection {
+    /**
+     * The value of numeric fields that weren't returned by the API.
+     */
+    public static final long UNKNOWN = -1;
+
+    private static final String FILE = "file";
+    private static final String FOLDER = "folder";
+    private static final String WEB_LINK = "web_link";
+
+    private final String type;
+    private final String id;
+    private final String sequenceID;
+    private final String etag;
+    private final String name;
+    private final String sha1;
+    private final long size;
+    private final long createdAt;
+    private final long modifiedAt;
+    private final String parentID;
+
+    private BoxItemProjection(String type, String id, String sequenceID, String etag, String name, String sha1,
+                              long size, long createdAt, long modifiedAt, String parentID) {
+        this.type = type;
+        this.id = id;
+        this.sequenceID = sequenceID;
+        this.etag = etag;
+        this.name = name;
+        this.sha1 = sha1;
+        this.size = size;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.parentID = parentID;
+    }
+
+    /**
+     * Creates a projection from the JSON of an item. Only the fields held by a projection are read, and the JSON
+     * object isn't kept.
+     *
+     * @param jsonObject the JSON of the item.
+     * @return the projection of the item.
+     */
+    static BoxItemProjection fromJSON(JsonObject jsonObject) {
+        String type = null;
+        String id = null;
+        String sequenceID = null;
+        String etag = null;
+        String name = null;
+        String sha1 = null;
+        long size = UNKNOWN;
+        long createdAt = UNKNOWN;
+        long modifiedAt = UNKNOWN;
+        String parentID = null;
+
+        for (JsonObject.Member member : jsonObject) {
+            JsonValue value = member.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+
+            String memberName = member.getName();
+            try {
+                if (memberName.equals("type")) {
+                    type = internType(value.asString());
+                } else if (memberName.equals("id")) {
+                    id = value.asString();
+                } else if (memberName.equals("sequence_id")) {
+                    sequenceID = value.asString();
+                } else if (memberName.equals("etag")) {
+                    etag = value.asString();
+                } else if (memberName.equals("name")) {
+                    name = value.asString();
+                } else if (memberName.equals("sha1")) {
+                    sha1 = value.asString();
+                } else if (memberName.equals("size")) {
+                    size = Double.valueOf(value.toString()).longValue();
+                } else if (memberName.equals("created_at")) {
+                    createdAt = BoxDateFormat.parseEpochMillis(value.asString());
+                } else if (memberName.equals("modified_at")) {
+                    modifiedAt = BoxDateFormat.parseEpochMillis(value.asString());
+                } else if (memberName.equals("parent")) {
+                    parentID = value.asObject().get("id").asString();
+                }
+            } catch (Exception e) {
+                throw new BoxDeserializationException(memberName, value.toString(), e);
+            }
+        }
+
+        return new BoxItemProjection(type, id, sequenceID, etag, name, sha1, size, createdAt, modifiedAt, parentID);
+    }
+
+    /**
+     * Returns the shared constant for the item types that listings return, so that projections don't each hold their
+     * own copy of the type string.
+     */
+    private static String internType(String type) {
+        if (type.equals(FILE)) {
+            return FILE;
+        } else if (type.equals(FOLDER)) {
+            return FOLDER;
+        } else if (type.equals(WEB_LINK)) {
+            return WEB_LINK;
+        }
+        return type;
+    }
+
+    /**
+     * Gets the type of the item, such as "file", "folder" or "web_link".
+     *
+     * @return the type of the item.
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the ID of the item.
+     *
+     * @return the ID of the item.
+     */
+    public String getID() {
+        return this.id;
+    }
+
+    /**
+     * Gets a unique ID for use with the {@link EventStream}.
+     *
+     * @return a unique ID for use with the EventStream, or null if it wasn't returned.
+     */
+    public String getSequenceID() {
+        return this.sequenceID;
+    }
+
+    /**
+     * Gets a unique string identifying the version of the item.
+     *
+     * @return the etag of the item, or null if it wasn't returned.
+     */
+    public String getEtag() {
+        return this.etag;
+    }
+
+    /**
+     * Gets the name of the item.
+     *
+     * @return the name of the item, or null if it wasn't returned.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the SHA1 hash of the item, if it's a file.
+     *
+     * @return the SHA1 hash of the file, or null if it wasn't returned.
+     */
+    public String getSha1() {
+        return this.sha1;
+    }
+
+    /**
+     * Gets the size of the item in bytes.
+     *
+     * @return the size of the item in bytes, or {@link #UNKNOWN} if it wasn't returned.
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the time the item was created, in milliseconds since the epoch.
+     *
+     * @return the time the item was created, or {@link #UNKNOWN} if it wasn't returned.
+     */
+    public long getCreatedAt() {
+        return this.createdAt;
+    }
+
+    /**
+     * Gets the time the item was last modified, in milliseconds since the epoch.
+     *
+     * @return the time the item was last modified, or {@link #UNKNOWN} if it wasn't returned.
+     */
+    public long getModifiedAt() {
+        return this.modifiedAt;
+    }
+
+    /**
+     * Gets the ID of the folder that contains the item.
+     *
+     * @return the ID of the parent folder, or null if it wasn't returned.
+     */
+    public String getParentID() {
+        return this.parentID;
+    }
+}
@@ -0,0 +1,28 @@
+package com.box.sdk;
+
+import java.net.URL;
+import java.util.Iterator;
+
+class BoxItemProjectionIterator implements Iterator<BoxItemProjection> {
+    private final JsonIterator iterator;
+
+    BoxItemProjectionIterator(BoxAPIConnection api, URL url, PagingParameters pagingParameters) {
+        this.iterator = new JsonIterator(api, url, pagingParameters);
+        this.iterator.setFilter(jsonObject -> {
+            String type = jsonObject.get("type").asString();
+            return (type.equals("file") || type.equals("folder") || type.equals("web_link"));
+        });
+    }
+
+    public boolean hasNext() {
+        return this.iterator.hasNext();
+    }
+
+    public BoxItemProjection next() {
+        return BoxItemProjection.fromJSON(this.iterator.next());
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,67 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Reads and writes the JSON of API requests and responses.
+ *
+ * <p>The SDK hands JSON to callers as minimal-json values, so a codec reads text into {@link JsonValue JsonValues} and
+ * writes them back as text. The default codec uses minimal-json's own parser. Another codec, for example one backed by
+ * a faster streaming parser, can be set with {@link BoxGlobalSettings#setJSONCodec(BoxJSONCodec)} as long as it builds
+ * the same values. Codecs are shared by every connection and must be thread-safe.</p>
+ */
+public interface BoxJSONCodec {
+    /**
+     * Reads a JSON value from a reader.
+     *
+     * @param reader the reader to read the JSON text from.
+     * @return the JSON value.
+     * @throws IOException if the reader can't be read.
+     */
+    JsonValue read(Reader reader) throws IOException;
+
+    /**
+     * Reads a JSON value from a string.
+     *
+     * @param json the JSON text.
+     * @return the JSON value.
+     */
+    JsonValue read(String json);
+
+    /**
+     * Writes a JSON value to a writer. The writer isn't flushed or closed.
+     *
+     * @param value  the JSON value to write.
+     * @param writer the writer to write the JSON text to.
+     * @throws IOException if the writer can't be written to.
+     */
+    void write(JsonValue value, Writer writer) throws IOException;
+
+    /**
+     * Reads a page of a listing, handing each member of its "entries" array to a consumer.
+     *
+     * <p>The default implementation reads the whole page and then hands over its entries. Codecs that can parse the
+     * page as it is read should override this method to hand over each entry as soon as it has been parsed.</p>
+     *
+     * @param reader        the reader to read the JSON text of the page from.
+     * @param entryConsumer the consumer that each entry of the page is handed to, in order.
+     * @return the top-level fields of the page, without its entries.
+     * @throws IOException if the reader can't be read.
+     */
+    default JsonObject readPage(Reader reader, Consumer<JsonObject> entryConsumer) throws IOException {
+        JsonObject page = this.read(reader).asObject();
+        JsonValue entries = page.get("entries");
+        if (entries != null && entries.isArray()) {
+            page.remove("entries");
+            for (JsonValue entry : entries.asArray()) {
+                entryConsumer.accept(entry.asObject());
+            }
+        }
+        return page;
+    }
+}
@@ -4,6 +4,7 @@ import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,6 +29,12 @@ public abstract class BoxJSONObject {
      * The current JSON object.
      */
     private JsonObject jsonObject;
+    /**
+     * The members of the current JSON object that haven't been decoded yet, by name. It's only used when this object
+     * decodes its members lazily, and it's guarded by this object's monitor, since getters of objects shared between
+     * threads decode members when they're first called.
+     */
+    private volatile Map<String, JsonObject.Member> undecodedMembers;
 
     /**
      * Constructs an empty BoxJSONObject.
@@ -42,7 +49,7 @@ public abstract class BoxJSONObject {
      * @param json the JSON string to decode.
      */
     public BoxJSONObject(String json) {
-        this(Json.parse(json).asObject());
+        this(BoxGlobalSettings.getJSONCodec().read(json).asObject());
     }
 
     /**
@@ -195,17 +202,97 @@ public abstract class BoxJSONObject {
      * @param jsonObject the JSON object containing updated information.
      */
     void update(JsonObject jsonObject) {
-        this.jsonObject = jsonObject;
+        if (this.decodesMembersLazily()) {
+            this.updateLazily(jsonObject);
+        } else {
+            this.stopDecodingLazily(jsonObject);
+            this.jsonObject = jsonObject;
+
+            for (JsonObject.Member member : jsonObject) {
+                if (member.getValue().isNull()) {
+                    continue;
+                }
 
+                this.parseJSONMember(member);
+            }
+        }
+
+        this.clearPendingChanges();
+    }
+
+    private synchronized void updateLazily(JsonObject jsonObject) {
+        if (this.undecodedMembers == null) {
+            this.undecodedMembers = new HashMap<String, JsonObject.Member>();
+        } else {
+            // Members that the new JSON object doesn't replace keep the values they had in the old one.
+            for (String name : new ArrayList<String>(this.undecodedMembers.keySet())) {
+                if (jsonObject.get(name) == null) {
+                    this.decodeMember(name);
+                }
+            }
+        }
+
+        this.jsonObject = jsonObject;
         for (JsonObject.Member member : jsonObject) {
-            if (member.getValue().isNull()) {
-                continue;
+            this.undecodedMembers.put(member.getName(), member);
+        }
+    }
+
+    private void stopDecodingLazily(JsonObject jsonObject) {
+        if (this.undecodedMembers == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.undecodedMembers == null) {
+                return;
             }
 
-            this.parseJSONMember(member);
+            // Members left over from a lazy update must not be decoded later, when they'd overwrite the new values.
+            for (String name : new ArrayList<String>(this.undecodedMembers.keySet())) {
+                if (jsonObject.get(name) == null) {
+                    this.decodeMember(name);
+                }
+            }
+            this.undecodedMembers = null;
         }
+    }
 
-        this.clearPendingChanges();
+    /**
+     * Determines whether this object decodes the members of its JSON object when they're first accessed instead of
+     * when it's updated.
+     *
+     * <p>Subclasses that return true must call {@link #decodeMember} before reading or writing a field that is
+     * decoded from a JSON member. This method returns false by default.</p>
+     *
+     * @return true if the members of the JSON object are decoded lazily; otherwise false.
+     */
+    boolean decodesMembersLazily() {
+        return false;
+    }
+
+    /**
+     * Decodes a member of the current JSON object with {@link #parseJSONMember} if it hasn't been decoded yet. Each
+     * member is decoded at most once, and this method does nothing when members are decoded eagerly.
+     *
+     * @param name the name of the JSON member.
+     */
+    void decodeMember(String name) {
+        // Objects that are decoded eagerly never take the lock.
+        if (this.undecodedMembers == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (this.undecodedMembers == null) {
+                return;
+            }
+
+            JsonObject.Member member = this.undecodedMembers.remove(name);
+            if (member != null && !member.getValue().isNull()) {
+                this.parseJSONMember(member);
+            }
+        }
     }
 
     /**
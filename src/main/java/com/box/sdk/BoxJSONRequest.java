@@ -1,9 +1,16 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
 import java.net.URL;
 
 /**
@@ -11,9 +18,16 @@ import java.net.URL;
  *
  * <p>This request type extends BoxAPIRequest to provide additional functionality for handling JSON strings. It
  * automatically sets the appropriate "Content-Type" HTTP headers and allows the JSON in the request to be logged.</p>
+ *
+ * <p>A body set as a {@link JsonObject} is not converted to a String. It is serialized as UTF-8 straight into the
+ * connection each time the request is sent, so large bodies aren't copied in memory and can still be retried.</p>
  */
 public class BoxJSONRequest extends BoxAPIRequest {
     private JsonValue jsonValue;
+    private String jsonString;
+    private boolean writesJSON;
+    private BoxJSONCodec jsonCodec;
+    private long jsonLength;
 
     /**
      * Constructs an authenticated BoxJSONRequest using a provided BoxAPIConnection.
@@ -58,17 +72,42 @@ public class BoxJSONRequest extends BoxAPIRequest {
     @Override
     public void setBody(String body) {
         super.setBody(body);
-        this.jsonValue = Json.parse(body);
+        this.jsonValue = null;
+        this.jsonString = body;
+        this.writesJSON = false;
     }
 
     /**
      * Sets the body of this request to a given JsonObject.
      *
+     * <p>The object is serialized when the request is sent, so it must not be changed until the request has been
+     * sent.</p>
+     *
      * @param body the JsonObject to use as the body.
      */
     public void setBody(JsonObject body) {
-        super.setBody(body.toString());
         this.jsonValue = body;
+        this.jsonString = null;
+        this.writesJSON = true;
+        // The same codec measures and writes the body, so the length always matches what is written.
+        this.jsonCodec = BoxGlobalSettings.getJSONCodec();
+        this.jsonLength = utf8Length(this.jsonCodec, body);
+        this.setWrittenBodyLength(this.jsonLength);
+    }
+
+    /**
+     * Gets the stream containing contents of this request's body. When the body was set as a JsonObject, the stream
+     * contains its serialized JSON.
+     *
+     * @return an InputStream containing the contents of this request's body.
+     */
+    @Override
+    public InputStream getBody() {
+        if (this.writesJSON) {
+            return new ByteArrayInputStream(this.toJSONString(this.jsonValue).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return super.getBody();
     }
 
     /**
@@ -77,8 +116,9 @@ public class BoxJSONRequest extends BoxAPIRequest {
      * @return body represented as JsonObject.
      */
     public JsonObject getBodyAsJsonObject() {
-        if (this.jsonValue.isObject()) {
-            return this.jsonValue.asObject();
+        JsonValue value = this.getBodyAsJsonValue();
+        if (value != null && value.isObject()) {
+            return value.asObject();
         }
 
         return null;
@@ -90,11 +130,137 @@ public class BoxJSONRequest extends BoxAPIRequest {
      * @return body represented as JsonValue
      */
     public JsonValue getBodyAsJsonValue() {
+        if (this.jsonValue == null && this.jsonString != null) {
+            this.jsonValue = BoxGlobalSettings.getJSONCodec().read(this.jsonString);
+        }
         return this.jsonValue;
     }
 
     @Override
     protected String bodyToString() {
-        return this.jsonValue.toString();
+        JsonValue value = this.getBodyAsJsonValue();
+        if (value == null) {
+            return null;
+        }
+        return this.toJSONString(value);
+    }
+
+    @Override
+    protected void writeBody(HttpURLConnection connection, ProgressListener listener) {
+        if (!this.writesJSON) {
+            super.writeBody(connection, listener);
+            return;
+        }
+
+        connection.setDoOutput(true);
+        try {
+            OutputStream output = connection.getOutputStream();
+            if (listener != null) {
+                output = new ProgressOutputStream(output, listener, this.jsonLength);
+            }
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            this.jsonCodec.write(this.jsonValue, writer);
+            writer.close();
+        } catch (IOException e) {
+            throw new BoxAPIException("Error creating request body", e);
+        }
+    }
+
+    /**
+     * Serializes a JSON value with the codec that writes the body, so it matches what is sent.
+     */
+    private String toJSONString(JsonValue value) {
+        BoxJSONCodec codec = this.jsonCodec;
+        if (!this.writesJSON) {
+            codec = BoxGlobalSettings.getJSONCodec();
+        }
+
+        StringWriter writer = new StringWriter();
+        try {
+            codec.write(value, writer);
+        } catch (IOException e) {
+            throw new BoxAPIException("Error creating request body", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Computes the number of bytes in the UTF-8 encoding of a JSON value without encoding it.
+     */
+    private static long utf8Length(BoxJSONCodec codec, JsonValue value) {
+        Utf8LengthWriter writer = new Utf8LengthWriter();
+        try {
+            codec.write(value, writer);
+        } catch (IOException e) {
+            throw new BoxAPIException("Error creating request body", e);
+        }
+        return writer.getLength();
+    }
+
+    /**
+     * A Writer that discards its characters and counts the bytes they'd take in UTF-8, the way an OutputStreamWriter
+     * encodes them.
+     */
+    private static final class Utf8LengthWriter extends Writer {
+        private long length;
+        private boolean pendingHighSurrogate;
+
+        long getLength() {
+            if (this.pendingHighSurrogate) {
+                return this.length + 1;
+            }
+            return this.length;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int count) {
+            for (int i = offset; i < offset + count; i++) {
+                this.count(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String string, int offset, int count) {
+            for (int i = offset; i < offset + count; i++) {
+                this.count(string.charAt(i));
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            this.count((char) c);
+        }
+
+        private void count(char c) {
+            if (this.pendingHighSurrogate) {
+                this.pendingHighSurrogate = false;
+                if (Character.isLowSurrogate(c)) {
+                    this.length += 4;
+                    return;
+                }
+                // An unpaired surrogate is replaced with a single '?'.
+                this.length++;
+            }
+
+            if (c < 0x80) {
+                this.length++;
+            } else if (c < 0x800) {
+                this.length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                this.pendingHighSurrogate = true;
+            } else if (Character.isLowSurrogate(c)) {
+                this.length++;
+            } else {
+                this.length += 3;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
     }
 }
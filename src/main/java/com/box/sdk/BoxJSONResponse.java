@@ -1,21 +1,22 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.util.Map;
 
 /**
  * Used to read HTTP responses containing JSON from the Box API.
  *
- * <p>This request type extends BoxAPIResponse to provide additional functionality for handling JSON strings. It reads
- * the response body into a string and allows the JSON in the response to be logged.</p>
+ * <p>This request type extends BoxAPIResponse to provide additional functionality for handling JSON strings. It parses
+ * the response body directly from the connection and allows the JSON in the response to be logged.</p>
  */
 public class BoxJSONResponse extends BoxAPIResponse {
     private static final int BUFFER_SIZE = 8192;
     private JsonObject jsonObject;
+    private String json;
 
     /**
      * Constructs a BoxJSONResponse without an associated HttpURLConnection.
@@ -46,47 +47,73 @@ public class BoxJSONResponse extends BoxAPIResponse {
     }
 
     /**
-     * Get response as Json Object.
+     * Get response as Json Object. When this method is called, the response's body will be parsed directly from the
+     * connection and the response will be disconnected, meaning that the stream returned by {@link #getBody} can no
+     * longer be used. The parsed object is cached, so later calls don't parse the body again.
      *
      * @return response as JsonObject
      */
     public JsonObject getJsonObject() {
-        if (this.jsonObject != null) {
-            return this.jsonObject;
-        } else {
-            return Json.parse(this.getJSON()).asObject();
+        if (this.jsonObject == null) {
+            if (this.hasConnection()) {
+                this.jsonObject = this.readJsonObject();
+            } else {
+                // Responses created without a connection, e.g. by a RequestInterceptor, may provide their JSON through
+                // an overridden getJSON().
+                this.jsonObject = BoxGlobalSettings.getJSONCodec().read(this.getJSON()).asObject();
+            }
         }
+        return this.jsonObject;
     }
 
     /**
      * Gets the body of the response as a JSON string. When this method is called, the response's body will be read and
      * the response will be disconnected, meaning that the stream returned by {@link #getBody} can no longer be used.
      *
+     * <p>If this method reads the body, it returns the body exactly as it was received. If {@link #getJsonObject} has
+     * already parsed the body straight from the connection, the body is no longer available as text and this method
+     * returns the parsed object serialized again, which may differ from the body in whitespace. Callers that need
+     * the JSON structure should use {@link #getJsonObject} instead of parsing this string.</p>
+     *
      * @return the body of the response as a JSON string.
      */
     public String getJSON() {
+        if (this.json != null) {
+            return this.json;
+        }
         if (this.jsonObject != null) {
             return this.jsonObject.toString();
-        } else {
-            InputStreamReader reader = new InputStreamReader(this.getBody(), StandardCharsets.UTF_8);
-            StringBuilder builder = new StringBuilder();
-            char[] buffer = new char[BUFFER_SIZE];
+        }
 
-            try {
-                int read = reader.read(buffer, 0, BUFFER_SIZE);
-                while (read != -1) {
-                    builder.append(buffer, 0, read);
-                    read = reader.read(buffer, 0, BUFFER_SIZE);
-                }
+        InputStreamReader reader = new InputStreamReader(this.getBody(), StandardCharsets.UTF_8);
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[BUFFER_SIZE];
 
-                this.disconnect();
-                reader.close();
-            } catch (IOException e) {
-                throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        try {
+            int read = reader.read(buffer, 0, BUFFER_SIZE);
+            while (read != -1) {
+                builder.append(buffer, 0, read);
+                read = reader.read(buffer, 0, BUFFER_SIZE);
             }
-            String jsonAsString = builder.toString();
-            this.jsonObject = Json.parse(jsonAsString).asObject();
-            return jsonAsString;
+
+            this.disconnect();
+            reader.close();
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        }
+        String jsonAsString = builder.toString();
+        this.jsonObject = BoxGlobalSettings.getJSONCodec().read(jsonAsString).asObject();
+        this.json = jsonAsString;
+        return jsonAsString;
+    }
+
+    private JsonObject readJsonObject() {
+        try (Reader reader = new InputStreamReader(this.getBody(), StandardCharsets.UTF_8)) {
+            return BoxGlobalSettings.getJSONCodec().read(reader).asObject();
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        } finally {
+            this.disconnect();
         }
     }
 
@@ -1,12 +1,12 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -148,9 +148,9 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
         private String markerNext;
 
         /**
-         * Current loaded page.
+         * Items of the current loaded page, built while the page is parsed.
          */
-        private JsonArray page;
+        private List<T> page;
 
         /**
          * Cursor within the page (index of a next item for read).
@@ -198,15 +198,17 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
 
             BoxAPIRequest request;
             if (this.body != null) {
-                request = new BoxAPIRequest(BoxResourceIterable.this.api, url, "POST");
-                request.setBody(this.body.toString());
-                request.addHeader("Content-Type", "application/json");
+                BoxJSONRequest jsonRequest = new BoxJSONRequest(BoxResourceIterable.this.api, url, "POST");
+                jsonRequest.setBody(this.body);
+                request = jsonRequest;
             } else {
                 request = new BoxAPIRequest(BoxResourceIterable.this.api, url, "GET");
             }
 
             BoxJSONResponse response = (BoxJSONResponse) request.send();
-            JsonObject pageBody = Json.parse(response.getJSON()).asObject();
+            List<T> entries = new ArrayList<>();
+            JsonObject pageBody = JsonPageParser.parse(response,
+                entry -> entries.add(BoxResourceIterable.this.factory(entry)));
 
             JsonValue markerNextValue = pageBody.get(BODY_PARAMETER_MARKER_NEXT);
             if (markerNextValue != null && markerNextValue.isString()) {
@@ -215,7 +217,7 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
                 this.markerNext = null;
             }
 
-            this.page = pageBody.get(BODY_PARAMETER_ENTRIES).asArray();
+            this.page = entries;
             this.pageCursor = 0;
         }
 
@@ -243,8 +245,7 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
                 throw new NoSuchElementException();
             }
 
-            JsonObject entry = this.page.get(this.pageCursor++).asObject();
-            return BoxResourceIterable.this.factory(entry);
+            return this.page.get(this.pageCursor++);
         }
 
         /**
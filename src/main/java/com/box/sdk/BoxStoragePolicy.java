@@ -90,7 +90,7 @@ public class BoxStoragePolicy extends BoxResource {
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     /**
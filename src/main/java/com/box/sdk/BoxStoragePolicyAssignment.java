@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -55,7 +54,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
 
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxStoragePolicyAssignment storagePolicyAssignment = new BoxStoragePolicyAssignment(api,
             responseJSON.get("id").asString());
@@ -125,7 +124,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
         request.setBody(info.getPendingChanges());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         info.update(responseJSON);
     }
 
@@ -137,7 +136,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, HttpMethod.GET);
         BoxJSONResponse response = (BoxJSONResponse) request.send();
 
-        return new Info(Json.parse(response.getJSON()).asObject());
+        return new Info(response.getJsonObject());
     }
 
     /**
@@ -4,7 +4,6 @@ import static com.box.sdk.PagingParameters.DEFAULT_LIMIT;
 import static com.box.sdk.PagingParameters.marker;
 import static com.box.sdk.SortParameters.none;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.net.URL;
 import java.util.Iterator;
@@ -73,10 +72,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FOLDER_INFO_URL_TEMPLATE.build(this.api.getBaseURL(), folderID);
         BoxAPIRequest request = new BoxAPIRequest(this.api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         BoxFolder folder = new BoxFolder(this.api, jsonObject.get("id").asString());
-        return folder.new Info(response.getJSON());
+        return folder.new Info(response.getJsonObject());
     }
 
     /**
@@ -91,10 +90,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FOLDER_INFO_URL_TEMPLATE.buildWithQuery(this.api.getBaseURL(), queryString, folderID);
         BoxAPIRequest request = new BoxAPIRequest(this.api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         BoxFolder folder = new BoxFolder(this.api, jsonObject.get("id").asString());
-        return folder.new Info(response.getJSON());
+        return folder.new Info(response.getJsonObject());
     }
 
     /**
@@ -110,7 +109,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
             .add("", "");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFolder restoredFolder = new BoxFolder(this.api, responseJSON.get("id").asString());
         return restoredFolder.new Info(responseJSON);
@@ -142,7 +141,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFolder restoredFolder = new BoxFolder(this.api, responseJSON.get("id").asString());
         return restoredFolder.new Info(responseJSON);
@@ -170,10 +169,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FILE_INFO_URL_TEMPLATE.build(this.api.getBaseURL(), fileID);
         BoxAPIRequest request = new BoxAPIRequest(this.api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         BoxFile file = new BoxFile(this.api, jsonObject.get("id").asString());
-        return file.new Info(response.getJSON());
+        return file.new Info(response.getJsonObject());
     }
 
     /**
@@ -188,10 +187,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FILE_INFO_URL_TEMPLATE.buildWithQuery(this.api.getBaseURL(), queryString, fileID);
         BoxAPIRequest request = new BoxAPIRequest(this.api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         BoxFile file = new BoxFile(this.api, jsonObject.get("id").asString());
-        return file.new Info(response.getJSON());
+        return file.new Info(response.getJsonObject());
     }
 
     /**
@@ -207,7 +206,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
             .add("", "");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFile restoredFile = new BoxFile(this.api, responseJSON.get("id").asString());
         return restoredFile.new Info(responseJSON);
@@ -239,7 +238,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxFile restoredFile = new BoxFile(this.api, responseJSON.get("id").asString());
         return restoredFile.new Info(responseJSON);
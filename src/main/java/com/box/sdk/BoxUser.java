@@ -164,7 +164,7 @@ public class BoxUser extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxUser createdUser = new BoxUser(api, responseJSON.get("id").asString());
         return createdUser.new Info(responseJSON);
@@ -180,7 +180,7 @@ public class BoxUser extends BoxCollaborator {
         URL url = GET_ME_URL.build(api.getBaseURL());
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new BoxUser(api, jsonObject.get("id").asString());
     }
 
@@ -448,7 +448,7 @@ public class BoxUser extends BoxCollaborator {
         }
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject);
     }
 
@@ -466,7 +466,7 @@ public class BoxUser extends BoxCollaborator {
 
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int entriesCount = responseJSON.get("total_count").asInt();
         Collection<BoxGroupMembership.Info> memberships = new ArrayList<>(entriesCount);
@@ -530,7 +530,7 @@ public class BoxUser extends BoxCollaborator {
 
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         return new EmailAlias(responseJSON);
     }
 
@@ -559,7 +559,7 @@ public class BoxUser extends BoxCollaborator {
         URL url = EMAIL_ALIASES_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         int totalCount = responseJSON.get("total_count").asInt();
         Collection<EmailAlias> emailAliases = new ArrayList<>(totalCount);
@@ -602,7 +602,7 @@ public class BoxUser extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         info.update(jsonObject);
     }
 
@@ -629,7 +629,7 @@ public class BoxUser extends BoxCollaborator {
         ownedBy.add("owned_by", idValue);
         request.setBody(ownedBy.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         BoxFolder movedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
 
         return movedFolder.new Info(responseJSON);
@@ -655,7 +655,7 @@ public class BoxUser extends BoxCollaborator {
         ownedBy.add("owned_by", destinationUser);
         request.setBody(ownedBy.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         BoxFolder movedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
 
         return movedFolder.new Info(responseJSON);
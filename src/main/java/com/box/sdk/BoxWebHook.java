@@ -133,7 +133,7 @@ public class BoxWebHook extends BoxResource {
         request.setBody(requestJSON.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         BoxWebHook webHook = new BoxWebHook(api, responseJSON.get(JSON_KEY_ID).asString());
         return webHook.new Info(responseJSON);
@@ -233,7 +233,7 @@ public class BoxWebHook extends BoxResource {
         URL url = WEBHOOK_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(Json.parse(response.getJSON()).asObject());
+        return new Info(response.getJsonObject());
     }
 
     /**
@@ -248,7 +248,7 @@ public class BoxWebHook extends BoxResource {
         URL url = WEBHOOK_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(Json.parse(response.getJSON()).asObject());
+        return new Info(response.getJsonObject());
     }
 
     /**
@@ -262,7 +262,7 @@ public class BoxWebHook extends BoxResource {
         request.setBody(info.getPendingChanges());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         info.update(jsonObject);
     }
 
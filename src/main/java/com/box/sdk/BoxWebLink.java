@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.sharedlink.BoxSharedLinkWithoutPermissionsRequest;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -138,7 +137,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(copyInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         BoxWebLink copiedWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
         return copiedWebLink.new Info(responseJSON);
     }
@@ -174,7 +173,7 @@ public class BoxWebLink extends BoxItem {
 
         request.setBody(updateInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         BoxWebLink movedWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
         return movedWebLink.new Info(responseJSON);
     }
@@ -193,7 +192,7 @@ public class BoxWebLink extends BoxItem {
 
         request.setBody(updateInfo.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        response.getJSON();
+        response.disconnect();
     }
 
     @Override
@@ -201,7 +200,7 @@ public class BoxWebLink extends BoxItem {
         URL url = WEB_LINK_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     @Override
@@ -211,7 +210,7 @@ public class BoxWebLink extends BoxItem {
 
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new Info(response.getJSON());
+        return new Info(response.getJsonObject());
     }
 
     /**
@@ -232,7 +231,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         info.update(jsonObject);
     }
 
@@ -252,7 +251,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         return new Info(jsonObject);
     }
 
@@ -285,7 +284,7 @@ public class BoxWebLink extends BoxItem {
          * @param jsonObject the parsed JSON object.
          */
         public Info(JsonObject jsonObject) {
-            super(jsonObject.toString());
+            super(jsonObject);
         }
 
         @Override
@@ -299,6 +298,7 @@ public class BoxWebLink extends BoxItem {
          * @return the description of this weblink.
          */
         public String getDescription() {
+            this.decodeMember("description");
             return this.description;
         }
 
@@ -308,6 +308,7 @@ public class BoxWebLink extends BoxItem {
          * @return the URL this weblink points to.
          */
         public URL getLinkURL() {
+            this.decodeMember("url");
             return this.linkURL;
         }
 
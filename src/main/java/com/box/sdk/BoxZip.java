@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import java.io.IOException;
@@ -54,7 +53,7 @@ public class BoxZip {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         return new BoxZipInfo(responseJSON);
     }
@@ -101,7 +100,7 @@ public class BoxZip {
         }
         BoxAPIRequest statusRequest = new BoxAPIRequest(this.getAPI(), zipInfo.getStatusURL(), "GET");
         BoxJSONResponse statusResponse = (BoxJSONResponse) statusRequest.send();
-        JsonObject statusResponseJSON = Json.parse(statusResponse.getJSON()).asObject();
+        JsonObject statusResponseJSON = statusResponse.getJsonObject();
         return new BoxZipDownloadStatus(statusResponseJSON);
     }
 
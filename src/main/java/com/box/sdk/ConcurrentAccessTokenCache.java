@@ -0,0 +1,150 @@
+package com.box.sdk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An in-memory access token cache for applications that use many connections from many threads.
+ *
+ * <p>Unlike {@link InMemoryLRUAccessTokenCache}, which guards every entry with a single lock, this cache is split into
+ * segments that each have their own lock, so threads reading or writing entries of different segments don't wait for
+ * each other. Each segment holds an equal share of the maximum number of entries and evicts its least recently used
+ * entry when it's full.</p>
+ *
+ * <p>Entries also expire with the access tokens they hold. The expiry time is read from the "lastRefresh" and
+ * "expires" fields of the access token information once, when it's stored, and an entry whose token has expired is
+ * dropped instead of being returned. The information is stored and returned as the same string, so it isn't parsed or
+ * serialized again when it's read.</p>
+ */
+public class ConcurrentAccessTokenCache implements IAccessTokenCache {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment[] segments;
+
+    /**
+     * Creates a concurrent access token cache.
+     *
+     * @param maxEntries maximum number of entries to store.
+     */
+    public ConcurrentAccessTokenCache(int maxEntries) {
+        this(maxEntries, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a concurrent access token cache with a given number of segments.
+     *
+     * @param maxEntries       maximum number of entries to store.
+     * @param concurrencyLevel the number of segments, which is the number of threads that can use the cache without
+     *                         waiting for each other. It's lowered to maxEntries if it's larger.
+     */
+    public ConcurrentAccessTokenCache(int maxEntries, int concurrencyLevel) {
+        if (maxEntries < 1 || concurrencyLevel < 1) {
+            throw new IllegalArgumentException("The maximum number of entries and the concurrency level must be "
+                + "positive.");
+        }
+
+        int segmentCount = Math.min(maxEntries, concurrencyLevel);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // The entries are shared out so that the segments hold maxEntries in total.
+            int segmentEntries = maxEntries / segmentCount;
+            if (i < maxEntries % segmentCount) {
+                segmentEntries++;
+            }
+            this.segments[i] = new Segment(segmentEntries);
+        }
+    }
+
+    /**
+     * Add an entry to the cache.
+     *
+     * @param key   key to use.
+     * @param value access token information to store.
+     */
+    public void put(String key, String value) {
+        this.segmentFor(key).put(key, new CachedToken(value, AccessTokenCacheInfo.expiryTime(value)));
+    }
+
+    /**
+     * Add an entry to the cache unless the cache already holds one whose access token expires later. The check and the
+     * update are atomic.
+     *
+     * @param key       key to use.
+     * @param value     access token information to store.
+     * @param expiresAt the time at which the access token expires, in milliseconds since the epoch.
+     * @return true if the entry was added; otherwise false.
+     */
+    @Override
+    public boolean putIfNewer(String key, String value, long expiresAt) {
+        return this.segmentFor(key).putIfNewer(key, new CachedToken(value, expiresAt));
+    }
+
+    /**
+     * Get an entry from the cache.
+     *
+     * @param key key to look for.
+     * @return access token information, or null if there is none or its access token has expired.
+     */
+    public String get(String key) {
+        return this.segmentFor(key).get(key, System.currentTimeMillis());
+    }
+
+    private Segment segmentFor(String key) {
+        // Spreads the bits of the hash code the way HashMap does, so keys that only differ in their high bits don't
+        // all fall in the same segment.
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return this.segments[(hash & Integer.MAX_VALUE) % this.segments.length];
+    }
+
+    private static final class CachedToken {
+        private final String value;
+        private final long expiryTime;
+
+        CachedToken(String value, long expiryTime) {
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    private static final class Segment {
+        private final Map<String, CachedToken> entries;
+
+        Segment(final int maxEntries) {
+            this.entries = new LinkedHashMap<String, CachedToken>(16, 0.75F, true) {
+                private static final long serialVersionUID = 4120553437389616284L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+                    return this.size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized void put(String key, CachedToken token) {
+            this.entries.put(key, token);
+        }
+
+        synchronized boolean putIfNewer(String key, CachedToken token) {
+            CachedToken current = this.entries.get(key);
+            if (current != null && current.expiryTime >= token.expiryTime) {
+                return false;
+            }
+            this.entries.put(key, token);
+            return true;
+        }
+
+        synchronized String get(String key, long now) {
+            CachedToken token = this.entries.get(key);
+            if (token == null) {
+                return null;
+            }
+
+            if (now >= token.expiryTime) {
+                this.entries.remove(key);
+                return null;
+            }
+            return token.value;
+        }
+    }
+}
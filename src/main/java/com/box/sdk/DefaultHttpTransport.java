@@ -0,0 +1,94 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The default {@link HttpTransport}, which opens connections using the JDK's built-in {@link HttpURLConnection}.
+ *
+ * <p>Connections are pooled by the JDK's HTTP/1.1 keep-alive cache. HTTPS connections are configured with an SSL
+ * socket factory that forces TLSv1.1 or greater on legacy Java environments.</p>
+ */
+public final class DefaultHttpTransport implements HttpTransport {
+    /**
+     * The shared instance used by every connection that doesn't set its own transport.
+     */
+    public static final DefaultHttpTransport INSTANCE = new DefaultHttpTransport();
+
+    private static final BoxLogger LOGGER = BoxLogger.defaultLogger();
+    private static SSLSocketFactory sslSocketFactory;
+
+    static {
+        // Setup the SSL context manually to force newer TLS version on legacy Java environments
+        // This is necessary because Java 7 uses TLSv1.0 by default, but the Box API will need
+        // to deprecate this protocol in the future.  To prevent clients from breaking, we must
+        // ensure that they are using TLSv1.1 or greater!
+        SSLContext sc = null;
+        try {
+            sc = SSLContext.getDefault();
+            SSLParameters params = sc.getDefaultSSLParameters();
+            boolean supportsNewTLS = false;
+            for (String protocol : params.getProtocols()) {
+                if (protocol.compareTo("TLSv1") > 0) {
+                    supportsNewTLS = true;
+                    break;
+                }
+            }
+            if (!supportsNewTLS) {
+                // Try to upgrade to a higher TLS version
+                sc = null;
+                sc = SSLContext.getInstance("TLSv1.1");
+                sc.init(null, null, new java.security.SecureRandom());
+                sc = SSLContext.getInstance("TLSv1.2");
+                sc.init(null, null, new java.security.SecureRandom());
+            }
+        } catch (NoSuchAlgorithmException ex) {
+            if (sc == null) {
+                LOGGER.error("Unable to set up SSL context for HTTPS! "
+                    + "This may result in the inability  to connect to the Box API.");
+            }
+            if (sc != null && sc.getProtocol().equals("TLSv1")) {
+                // Could not find a good version of TLS
+                LOGGER.error("Using deprecated TLSv1 protocol, which will be deprecated by the Box API! "
+                    + "Upgrade to a newer version of Java as soon as possible.");
+            }
+        } catch (KeyManagementException ex) {
+            LOGGER.error(
+                "Exception when initializing SSL Context!  This may result in the inabilty to connect to the Box API"
+            );
+            sc = null;
+        }
+
+        if (sc != null) {
+            sslSocketFactory = sc.getSocketFactory();
+        }
+
+    }
+
+    private DefaultHttpTransport() {
+    }
+
+    @Override
+    public HttpURLConnection openConnection(URL url, Proxy proxy) throws IOException {
+        HttpURLConnection connection;
+        if (proxy == null) {
+            connection = (HttpURLConnection) url.openConnection();
+        } else {
+            connection = (HttpURLConnection) url.openConnection(proxy);
+        }
+
+        if (connection instanceof HttpsURLConnection && sslSocketFactory != null) {
+            ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+        }
+
+        return connection;
+    }
+}
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -8,6 +7,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -37,6 +37,20 @@ public class EventLog implements Iterable<BoxEvent> {
     private Date endDate;
 
     EventLog(BoxAPIConnection api, JsonObject json, String streamPosition, int limit) {
+        this(api, json, streamPosition, limit, null);
+    }
+
+    /**
+     * Constructs a log from the JSON of a page of events, keeping only the events of the given types. Events of other
+     * types are skipped before a {@link BoxEvent} is constructed for them.
+     *
+     * @param api            the API connection to use.
+     * @param json           the JSON of the page of events.
+     * @param streamPosition the stream position that the page was requested from.
+     * @param limit          the limit that the page was requested with.
+     * @param typeNames      the names of the event types to keep, or null to keep events of every type.
+     */
+    EventLog(BoxAPIConnection api, JsonObject json, String streamPosition, int limit, Collection<String> typeNames) {
         this.streamPosition = streamPosition;
         this.limit = limit;
         JsonValue nextStreamPosition = json.get("next_stream_position");
@@ -50,7 +64,10 @@ public class EventLog implements Iterable<BoxEvent> {
         this.events = new LinkedHashSet<>(this.chunkSize);
         JsonArray entries = json.get("entries").asArray();
         for (JsonValue entry : entries) {
-            this.events.add(new BoxEvent(api, entry.asObject()));
+            JsonObject entryObject = entry.asObject();
+            if (BoxEvent.hasEventType(entryObject, typeNames)) {
+                this.events.add(new BoxEvent(api, entryObject));
+            }
         }
     }
 
@@ -147,7 +164,7 @@ public class EventLog implements Iterable<BoxEvent> {
 
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
         EventLog log = new EventLog(api, responseJSON, position, limit);
         log.setStartDate(after);
         log.setEndDate(before);
@@ -245,8 +262,14 @@ public class EventLog implements Iterable<BoxEvent> {
 
         BoxAPIRequest apiRequest = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) apiRequest.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-        EventLog log = new EventLog(api, responseJSON, request.getPosition(), request.getLimit());
+        JsonObject responseJSON = response.getJsonObject();
+        // Not every stream filters events by type, so events of other types are also skipped here, before they're
+        // constructed.
+        Collection<String> typeNames = null;
+        if (request.getTypes().size() > 0) {
+            typeNames = new HashSet<>(request.getTypes());
+        }
+        EventLog log = new EventLog(api, responseJSON, request.getPosition(), request.getLimit(), typeNames);
         log.setStartDate(request.getAfter());
         log.setEndDate(request.getBefore());
         return log;
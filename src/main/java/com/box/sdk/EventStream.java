@@ -1,11 +1,11 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
-import com.eclipsesource.json.JsonValue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Receives real-time events from the API and forwards them to {@link EventListener EventListeners}.
@@ -32,6 +32,7 @@ public class EventStream {
     private final Collection<EventListener> listeners;
     private final Object listenerLock;
 
+    private volatile Set<String> eventTypeNames;
     private LRUCache<String> receivedEvents;
     private boolean started;
     private Poller poller;
@@ -82,6 +83,40 @@ public class EventStream {
         }
     }
 
+    /**
+     * Limits the events that listeners are notified of to events of the given types.
+     *
+     * <p>Events of other types are skipped as soon as they're read from the response, before a {@link BoxEvent} is
+     * constructed for them. Calling this method without any types notifies listeners of events of every type, which
+     * is the default.</p>
+     *
+     * @param eventTypes the types of the events that listeners are notified of.
+     */
+    public void setEventTypes(BoxEvent.EventType... eventTypes) {
+        String[] typeNames = new String[eventTypes.length];
+        for (int i = 0; i < eventTypes.length; i++) {
+            typeNames[i] = eventTypes[i].toJSONString();
+        }
+        this.setEventTypeNames(typeNames);
+    }
+
+    /**
+     * Limits the events that listeners are notified of to events with the given type names.
+     *
+     * <p>This method can be used for event types that aren't listed in {@link BoxEvent.EventType}. Calling it without
+     * any type names notifies listeners of events of every type, which is the default.</p>
+     *
+     * @param eventTypeNames the names of the types of the events that listeners are notified of.
+     * @see #setEventTypes(BoxEvent.EventType...)
+     */
+    public void setEventTypeNames(String... eventTypeNames) {
+        if (eventTypeNames.length == 0) {
+            this.eventTypeNames = null;
+        } else {
+            this.eventTypeNames = new HashSet<>(Arrays.asList(eventTypeNames));
+        }
+    }
+
     /**
      * Indicates whether or not this EventStream has been started.
      *
@@ -121,7 +156,7 @@ public class EventStream {
             BoxAPIRequest request = new BoxAPIRequest(this.api,
                 EVENT_URL.buildAlpha(this.api.getBaseURL(), "now"), "GET");
             BoxJSONResponse response = (BoxJSONResponse) request.send();
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             initialPosition = jsonObject.get("next_stream_position").asLong();
         } else {
             assert this.startingPosition >= 0 : "Starting position must be non-negative";
@@ -217,12 +252,14 @@ public class EventStream {
                     BoxAPIRequest request = new BoxAPIRequest(EventStream.this.api,
                         EVENT_URL.buildAlpha(EventStream.this.api.getBaseURL(), position), "GET");
                     BoxJSONResponse response = (BoxJSONResponse) request.send();
-                    JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-                    JsonArray entriesArray = jsonObject.get("entries").asArray();
-                    for (JsonValue entry : entriesArray) {
-                        BoxEvent event = new BoxEvent(EventStream.this.api, entry.asObject());
-                        EventStream.this.notifyEvent(event);
-                    }
+                    // Each event is handed to the listeners as soon as it has been parsed from the response, and events
+                    // of types that aren't listened to are skipped before they're constructed.
+                    Set<String> typeNames = EventStream.this.eventTypeNames;
+                    JsonObject jsonObject = JsonPageParser.parse(response, entry -> {
+                        if (BoxEvent.hasEventType(entry, typeNames)) {
+                            EventStream.this.notifyEvent(new BoxEvent(EventStream.this.api, entry));
+                        }
+                    });
                     position = jsonObject.get("next_stream_position").asLong();
                     EventStream.this.notifyNextPosition(position);
                     try {
@@ -0,0 +1,147 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An access token cache that stores access token information in files, so that it's shared by every process on a
+ * host that uses the same directory.
+ *
+ * <p>A worker that starts on a host where other workers have already authenticated reads their access tokens from the
+ * directory instead of exchanging a new JWT assertion for every user. Each entry is a small file named after a hash of
+ * its key. Entries are written to a temporary file first and then moved in place, so readers in other processes never
+ * see a partly written entry. {@link #putIfNewer(String, String, long)} holds a file lock while it compares and
+ * replaces an entry, so processes that refresh the same token at the same time keep the one that expires last.</p>
+ *
+ * <p>Entries whose access tokens have expired aren't returned. They're replaced the next time their key is stored.</p>
+ */
+public class FileSystemAccessTokenCache implements IAccessTokenCache {
+    private static final String LOCK_FILE_NAME = ".lock";
+    private static final String ENTRY_FILE_EXTENSION = ".json";
+    private static final int LOCK_STRIPES = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<MessageDigest> KEY_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BoxAPIException("Digest algorithm not found", e);
+        }
+    });
+
+    private final Path directory;
+    private final Path lockFile;
+    private final Object[] stripeLocks;
+
+    /**
+     * Creates a file system access token cache that stores its entries in a directory. The directory is created if it
+     * doesn't exist.
+     *
+     * @param directory the directory to store the entries in.
+     */
+    public FileSystemAccessTokenCache(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't create the access token cache directory " + directory + ".", e);
+        }
+
+        this.directory = directory;
+        this.lockFile = directory.resolve(LOCK_FILE_NAME);
+        this.stripeLocks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.stripeLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Get an entry from the cache.
+     *
+     * @param key key to look for.
+     * @return access token information, or null if there is none or its access token has expired.
+     */
+    public String get(String key) {
+        String value = this.read(this.entryFile(key));
+        if (value == null || System.currentTimeMillis() >= AccessTokenCacheInfo.expiryTime(value)) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Add an entry to the cache.
+     *
+     * @param key   key to use.
+     * @param value access token information to store.
+     */
+    public void put(String key, String value) {
+        this.write(this.entryFile(key), value);
+    }
+
+    /**
+     * Add an entry to the cache unless the cache already holds one whose access token expires later. The check and the
+     * update are atomic across the processes that share the directory.
+     *
+     * @param key       key to use.
+     * @param value     access token information to store.
+     * @param expiresAt the time at which the access token expires, in milliseconds since the epoch.
+     * @return true if the entry was added; otherwise false.
+     */
+    @Override
+    public boolean putIfNewer(String key, String value, long expiresAt) {
+        Path entryFile = this.entryFile(key);
+        int stripe = (entryFile.getFileName().hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES;
+
+        // File locks are held by the whole JVM, so threads of this process are serialized with a monitor first and
+        // other processes with a lock on one byte of the lock file.
+        synchronized (this.stripeLocks[stripe]) {
+            try (FileChannel channel = FileChannel.open(this.lockFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock(stripe, 1, false)) {
+                String current = this.read(entryFile);
+                if (current != null && AccessTokenCacheInfo.expiryTime(current) >= expiresAt) {
+                    return false;
+                }
+                this.write(entryFile, value);
+                return true;
+            } catch (IOException e) {
+                throw new BoxAPIException("Couldn't lock the access token cache directory " + this.directory + ".",
+                    e);
+            }
+        }
+    }
+
+    private Path entryFile(String key) {
+        MessageDigest digest = KEY_DIGEST.get();
+        digest.reset();
+        byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder fileName = new StringBuilder(hash.length * 2 + ENTRY_FILE_EXTENSION.length());
+        for (byte b : hash) {
+            fileName.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        fileName.append(ENTRY_FILE_EXTENSION);
+        return this.directory.resolve(fileName.toString());
+    }
+
+    private String read(Path entryFile) {
+        try {
+            return AtomicFiles.read(entryFile);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't read the access token cache entry " + entryFile + ".", e);
+        }
+    }
+
+    private void write(Path entryFile, String value) {
+        try {
+            AtomicFiles.write(entryFile, value);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't write the access token cache entry " + entryFile + ".", e);
+        }
+    }
+}
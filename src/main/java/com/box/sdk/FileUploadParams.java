@@ -1,6 +1,8 @@
 package com.box.sdk;
 
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Date;
 
 /**
@@ -8,6 +10,8 @@ import java.util.Date;
  */
 public class FileUploadParams {
     private InputStream content;
+    private Path contentFile;
+    private FileChannel contentChannel;
     private UploadFileCallback uploadFileCallback;
     private String name;
     private Date created;
@@ -43,6 +47,49 @@ public class FileUploadParams {
         return this;
     }
 
+    /**
+     * Gets the local file whose content will be uploaded to Box.
+     *
+     * @return the path of the file to be uploaded to Box.
+     */
+    public Path getContentFile() {
+        return this.contentFile;
+    }
+
+    /**
+     * Sets a local file whose content will be uploaded to Box. The file is read with positional reads each time the
+     * upload is attempted, so failed uploads can be retried, and its size is used for monitoring the upload's
+     * progress.
+     *
+     * @param contentFile the path of the file to be uploaded to Box.
+     * @return this FileUploadParams object for chaining.
+     */
+    public FileUploadParams setContent(Path contentFile) {
+        this.contentFile = contentFile;
+        return this;
+    }
+
+    /**
+     * Gets the channel whose content will be uploaded to Box.
+     *
+     * @return a FileChannel positioned at the content to be uploaded to Box.
+     */
+    public FileChannel getContentChannel() {
+        return this.contentChannel;
+    }
+
+    /**
+     * Sets a channel whose content, from its current position to its end, will be uploaded to Box. The channel is read
+     * with positional reads, so failed uploads can be retried. It isn't closed once the upload completes.
+     *
+     * @param contentChannel a FileChannel positioned at the content to be uploaded to Box.
+     * @return this FileUploadParams object for chaining.
+     */
+    public FileUploadParams setContent(FileChannel contentChannel) {
+        this.contentChannel = contentChannel;
+        return this;
+    }
+
     /**
      * @return content writer callback.
      */
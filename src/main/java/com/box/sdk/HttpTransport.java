@@ -0,0 +1,37 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+
+/**
+ * The interface for opening the HTTP connections used to send requests to the Box API.
+ *
+ * <p>Every {@link BoxAPIRequest} asks its connection's transport for a new {@link HttpURLConnection} on each attempt.
+ * The default transport, {@link DefaultHttpTransport}, uses the JDK's built-in HttpURLConnection and its keep-alive
+ * cache. A different transport can be set with {@link BoxAPIConnection#setHttpTransport} in order to use another
+ * HTTP client that exposes an HttpURLConnection facade, such as one that multiplexes requests over HTTP/2
+ * connections.</p>
+ *
+ * <pre>api.setHttpTransport(new HttpTransport() {
+ *    public HttpURLConnection openConnection(URL url, Proxy proxy) throws IOException {
+ *        return myHttpClient.open(url, proxy);
+ *    }
+ * });</pre>
+ *
+ * <p>Implementations must be thread-safe, since a single transport is shared by every request sent through a
+ * connection. The returned connection must not be connected yet; the request will set its method, timeouts and headers
+ * before sending.</p>
+ */
+public interface HttpTransport {
+    /**
+     * Opens a new, unconnected HTTP connection to a URL.
+     *
+     * @param url   the URL of the request.
+     * @param proxy the proxy to connect through, or null if the request shouldn't use a proxy.
+     * @return an unconnected HttpURLConnection for the URL.
+     * @throws IOException if the connection couldn't be opened.
+     */
+    HttpURLConnection openConnection(URL url, Proxy proxy) throws IOException;
+}
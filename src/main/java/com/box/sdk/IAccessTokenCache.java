@@ -1,10 +1,21 @@
 package com.box.sdk;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Implement this interface to provide a custom access token cache implementation for your environment.
  *
  * <p>For production applications it is recommended to use a distributed cache like Memcached or Redis, and to
  * implement this interface to store and retrieve access tokens appropriately for your environment.</p>
+ *
+ * <p>Only {@link #get(String)} and {@link #put(String, String)} have to be implemented. Caches that are reached over
+ * the network should also override {@link #getAll(Collection)}, so that the access tokens of many users are fetched
+ * in a single round trip, and {@link #putIfNewer(String, String, long)}, so that several processes sharing the cache
+ * don't replace each other's newer tokens with older ones. The asynchronous methods run the synchronous ones on a
+ * shared executor unless they're overridden.</p>
  */
 public interface IAccessTokenCache {
 
@@ -23,4 +34,73 @@ public interface IAccessTokenCache {
      * @param value access token information to store.
      */
     void put(String key, String value);
+
+    /**
+     * Get the access token information for several keys from the cache.
+     *
+     * @param keys keys to look for.
+     * @return the access token information by key. Keys that aren't in the cache are left out.
+     */
+    default Map<String, String> getAll(Collection<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            String value = this.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Store the access token information in the cache unless the cache already holds information whose access token
+     * expires later.
+     *
+     * <p>The default implementation reads the stored information and then writes the new one, so it isn't atomic.
+     * Caches shared by several processes should override it with an atomic compare and set.</p>
+     *
+     * @param key       key to use.
+     * @param value     access token information to store.
+     * @param expiresAt the time at which the access token expires, in milliseconds since the epoch.
+     * @return true if the information was stored; otherwise false.
+     */
+    default boolean putIfNewer(String key, String value, long expiresAt) {
+        String current = this.get(key);
+        if (current != null && AccessTokenCacheInfo.expiryTime(current) >= expiresAt) {
+            return false;
+        }
+        this.put(key, value);
+        return true;
+    }
+
+    /**
+     * Asynchronously get the access token information from the cache.
+     *
+     * @param key key to look for.
+     * @return a future completed with the access token information.
+     */
+    default CompletableFuture<String> getAsync(String key) {
+        return CompletableFuture.supplyAsync(() -> this.get(key), AsyncExecutors.defaultExecutor());
+    }
+
+    /**
+     * Asynchronously get the access token information for several keys from the cache.
+     *
+     * @param keys keys to look for.
+     * @return a future completed with the access token information by key.
+     */
+    default CompletableFuture<Map<String, String>> getAllAsync(Collection<String> keys) {
+        return CompletableFuture.supplyAsync(() -> this.getAll(keys), AsyncExecutors.defaultExecutor());
+    }
+
+    /**
+     * Asynchronously store the access token information in the cache.
+     *
+     * @param key   key to use.
+     * @param value access token information to store.
+     * @return a future completed once the information is stored.
+     */
+    default CompletableFuture<Void> putAsync(String key, String value) {
+        return CompletableFuture.runAsync(() -> this.put(key, value), AsyncExecutors.defaultExecutor());
+    }
 }
@@ -1,5 +1,8 @@
 package com.box.sdk;
 
+import java.security.PrivateKey;
+import java.util.Objects;
+
 /**
  * Contains the encryption preferences for JWT assertion.
  */
@@ -9,6 +12,9 @@ public class JWTEncryptionPreferences {
     private String privateKey;
     private String privateKeyPassword;
     private EncryptionAlgorithm encryptionAlgorithm;
+    private PrivateKey decryptedPrivateKey;
+    private String decryptedPrivateKeySource;
+    private String decryptedPrivateKeyPassword;
 
     /**
      * Returns the ID for public key for validating the JWT signature.
@@ -81,4 +87,26 @@ public class JWTEncryptionPreferences {
     public void setEncryptionAlgorithm(EncryptionAlgorithm encryptionAlgorithm) {
         this.encryptionAlgorithm = encryptionAlgorithm;
     }
+
+    /**
+     * Gets the decrypted form of a private key, decrypting it only if it isn't the key that was decrypted last.
+     *
+     * <p>Connections created with these preferences share the decrypted key this way, so parsing the key and deriving
+     * the key that encrypts it happen once instead of for every token. The key and password are passed in, rather
+     * than read from these preferences, so a connection keeps using the key it was created with even if the
+     * preferences are changed afterwards.</p>
+     *
+     * @param key      the PEM encoded private key.
+     * @param password the password of the private key.
+     * @return the decrypted private key.
+     */
+    synchronized PrivateKey getDecryptedPrivateKey(String key, String password) {
+        if (this.decryptedPrivateKey == null || !Objects.equals(this.decryptedPrivateKeySource, key)
+            || !Objects.equals(this.decryptedPrivateKeyPassword, password)) {
+            this.decryptedPrivateKey = BoxDeveloperEditionAPIConnection.decryptPrivateKey(key, password);
+            this.decryptedPrivateKeySource = key;
+            this.decryptedPrivateKeyPassword = password;
+        }
+        return this.decryptedPrivateKey;
+    }
 }
@@ -1,12 +1,11 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
-import com.eclipsesource.json.JsonValue;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 class JsonIterator {
@@ -14,7 +13,7 @@ class JsonIterator {
     private final URL url;
     private PagingParameters pagingParameters;
     private boolean hasMorePages;
-    private Iterator<JsonValue> currentPage;
+    private Iterator<JsonObject> currentPage;
     private JsonObject nextJsonObject;
     private Filter<JsonObject> filter;
 
@@ -66,9 +65,13 @@ class JsonIterator {
 
         BoxAPIRequest request = new BoxAPIRequest(this.api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        String json = response.getJSON();
-
-        JsonObject responseObject = Json.parse(json).asObject();
+        // Entries are filtered as they are parsed, so the entries that are left out are never kept.
+        List<JsonObject> entries = new ArrayList<>();
+        JsonObject responseObject = JsonPageParser.parse(response, entry -> {
+            if (this.filter == null || this.filter.shouldInclude(entry)) {
+                entries.add(entry);
+            }
+        });
 
         if (pagingParameters.isMarkerBasedPaging()) {
             continueAsMarkerBasedPaging(responseObject);
@@ -76,8 +79,7 @@ class JsonIterator {
             continueAsOffsetBasedPaging(responseObject);
         }
 
-        JsonArray jsonArray = responseObject.get("entries").asArray();
-        this.currentPage = jsonArray.iterator();
+        this.currentPage = entries.iterator();
     }
 
     private void continueAsOffsetBasedPaging(JsonObject response) {
@@ -103,11 +105,8 @@ class JsonIterator {
         }
 
         while (this.currentPage.hasNext() || this.hasMorePages) {
-            while (this.currentPage.hasNext()) {
-                JsonObject jsonObject = this.currentPage.next().asObject();
-                if (this.filter == null || this.filter.shouldInclude(jsonObject)) {
-                    return jsonObject;
-                }
+            if (this.currentPage.hasNext()) {
+                return this.currentPage.next();
             }
 
             if (this.hasMorePages) {
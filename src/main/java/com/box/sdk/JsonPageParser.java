@@ -0,0 +1,167 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonHandler;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonParser;
+import com.eclipsesource.json.JsonValue;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+/**
+ * Parses a page of a listing response without building its "entries" array.
+ *
+ * <p>The page is parsed from the response body as it is read. Each entry is handed to a consumer as soon as it has
+ * been parsed, so only one entry is held as a JSON object at a time. The other top-level fields of the page, such as
+ * next_marker, total_count or next_stream_position, are collected into the object returned by
+ * {@link #parse(BoxJSONResponse, Consumer)}, whether they appear before or after the entries.</p>
+ */
+final class JsonPageParser extends JsonHandler<JsonArray, JsonObject> {
+    private static final String ENTRIES = "entries";
+
+    private final Consumer<JsonObject> entryConsumer;
+    private JsonObject page;
+    private JsonArray entries;
+    private String pageField;
+    private int depth;
+    private JsonValue value;
+
+    private JsonPageParser(Consumer<JsonObject> entryConsumer) {
+        this.entryConsumer = entryConsumer;
+    }
+
+    /**
+     * Parses a page of a listing response with the {@link BoxGlobalSettings#getJSONCodec() JSON codec} and disconnects
+     * the response.
+     *
+     * @param response      the response containing the page.
+     * @param entryConsumer the consumer that each entry of the page is handed to, in order.
+     * @return the top-level fields of the page, without its entries.
+     */
+    static JsonObject parse(BoxJSONResponse response, Consumer<JsonObject> entryConsumer) {
+        BoxJSONCodec codec = BoxGlobalSettings.getJSONCodec();
+        Reader reader;
+        if (response.hasConnection()) {
+            reader = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8);
+        } else {
+            reader = new StringReader(response.getJSON());
+        }
+
+        try (Reader pageReader = reader) {
+            return codec.readPage(pageReader, entryConsumer);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    /**
+     * Parses a page of a listing with minimal-json as it is read.
+     *
+     * @param reader        the reader to read the page from.
+     * @param entryConsumer the consumer that each entry of the page is handed to, in order.
+     * @return the top-level fields of the page, without its entries.
+     * @throws IOException if the reader can't be read.
+     */
+    static JsonObject parse(Reader reader, Consumer<JsonObject> entryConsumer) throws IOException {
+        JsonPageParser handler = new JsonPageParser(entryConsumer);
+        new JsonParser(handler).parse(reader);
+        return handler.page;
+    }
+
+    @Override
+    public void endNull() {
+        this.value = Json.NULL;
+    }
+
+    @Override
+    public void endBoolean(boolean bool) {
+        this.value = Json.value(bool);
+    }
+
+    @Override
+    public void endString(String string) {
+        this.value = Json.value(string);
+    }
+
+    @Override
+    public void endNumber(String string) {
+        if (string.indexOf('.') < 0 && string.indexOf('e') < 0 && string.indexOf('E') < 0) {
+            try {
+                this.value = Json.value(Long.parseLong(string));
+                return;
+            } catch (NumberFormatException e) {
+                // Integers that don't fit in a long are kept as doubles.
+            }
+        }
+        this.value = Json.value(Double.parseDouble(string));
+    }
+
+    @Override
+    public JsonArray startArray() {
+        JsonArray array = new JsonArray();
+        if (this.depth == 1 && ENTRIES.equals(this.pageField)) {
+            this.entries = array;
+        }
+        this.depth++;
+        return array;
+    }
+
+    @Override
+    public void endArray(JsonArray array) {
+        this.depth--;
+        this.value = array;
+    }
+
+    @Override
+    public void endArrayValue(JsonArray array) {
+        if (array == this.entries) {
+            this.entryConsumer.accept(this.value.asObject());
+        } else {
+            array.add(this.value);
+        }
+        this.value = null;
+    }
+
+    @Override
+    public JsonObject startObject() {
+        JsonObject object = new JsonObject();
+        if (this.page == null) {
+            this.page = object;
+        }
+        this.depth++;
+        return object;
+    }
+
+    @Override
+    public void endObject(JsonObject object) {
+        this.depth--;
+        this.value = object;
+    }
+
+    @Override
+    public void startObjectValue(JsonObject object, String name) {
+        if (object == this.page) {
+            this.pageField = name;
+        }
+    }
+
+    @Override
+    public void endObjectValue(JsonObject object, String name) {
+        if (object == this.page) {
+            this.pageField = null;
+            if (ENTRIES.equals(name) && this.value == this.entries) {
+                this.entries = null;
+                this.value = null;
+                return;
+            }
+        }
+        object.add(name, this.value);
+        this.value = null;
+    }
+}
@@ -0,0 +1,270 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class for downloading large files.
+ *
+ * <p>The file is split into byte ranges which are downloaded concurrently with the Range header support of
+ * {@link BoxFile#downloadRange}. Each range is written at its own offset in the destination file, so ranges can
+ * complete in any order and a range that fails midway can be downloaded again without touching the others. Once all of
+ * the ranges have been written, the destination file is verified against the SHA-1 reported by Box.</p>
+ */
+public final class LargeFileDownload {
+
+    /**
+     * The number of bytes requested by each range request unless another range size is given.
+     */
+    public static final long DEFAULT_RANGE_SIZE = 32 * 1024 * 1024;
+
+    private static final String DIGEST_ALGORITHM_SHA1 = "SHA1";
+    private static final int DEFAULT_CONNECTIONS = 3;
+    private static final int DEFAULT_TIMEOUT = 1;
+    private static final TimeUnit DEFAULT_TIMEUNIT = TimeUnit.HOURS;
+    private final int connections;
+    private final long rangeSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    /**
+     * Creates a LargeFileDownload object.
+     *
+     * @param nParallelConnections number of parallel http connections to use
+     * @param rangeSize            number of bytes requested by each range request
+     * @param timeOut              time to wait before killing the job
+     * @param unit                 time unit for the time wait value
+     */
+    public LargeFileDownload(int nParallelConnections, long rangeSize, long timeOut, TimeUnit unit) {
+        if (nParallelConnections < 1) {
+            throw new IllegalArgumentException("At least one connection is required.");
+        }
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("The range size must be positive.");
+        }
+        this.connections = nParallelConnections;
+        this.rangeSize = rangeSize;
+        this.timeout = timeOut;
+        this.timeUnit = unit;
+    }
+
+    /**
+     * Creates a LargeFileDownload object with a default number of parallel connections, range size and timeout.
+     */
+    public LargeFileDownload() {
+        this(DEFAULT_CONNECTIONS, DEFAULT_RANGE_SIZE, DEFAULT_TIMEOUT, DEFAULT_TIMEUNIT);
+    }
+
+    /**
+     * Downloads a file to a local path, replacing any existing content at that path.
+     *
+     * @param file        the file to download.
+     * @param destination the path to which the file will be written.
+     * @throws InterruptedException when a thread gets interrupted.
+     * @throws IOException          when writing the destination file throws exception.
+     */
+    public void download(BoxFile file, Path destination) throws InterruptedException, IOException {
+        this.download(file, destination, null);
+    }
+
+    /**
+     * Downloads a file to a local path, replacing any existing content at that path, while reporting the progress to a
+     * ProgressListener. The listener is invoked from the threads downloading the ranges, one call at a time.
+     *
+     * @param file        the file to download.
+     * @param destination the path to which the file will be written.
+     * @param listener    a listener for monitoring the download's progress.
+     * @throws InterruptedException when a thread gets interrupted.
+     * @throws IOException          when writing the destination file throws exception.
+     */
+    public void download(BoxFile file, Path destination, ProgressListener listener)
+        throws InterruptedException, IOException {
+        BoxFile.Info info = file.getInfo("size", "sha1");
+        long fileSize = info.getSize();
+
+        try (FileChannel channel = FileChannel.open(destination, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.downloadRanges(file, channel, fileSize, listener);
+            channel.force(false);
+
+            String sha1 = info.getSha1();
+            if (sha1 != null && !sha1.equalsIgnoreCase(computeSha1(channel, fileSize))) {
+                throw new BoxAPIException("The downloaded file doesn't match the SHA-1 of the file on Box.");
+            }
+        }
+    }
+
+    static String computeSha1(FileChannel channel, long length) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
+        } catch (NoSuchAlgorithmException ae) {
+            throw new BoxAPIException("Digest algorithm not found", ae);
+        }
+
+        byte[] buffer = BoxAPIRequest.BODY_BUFFER_POOL.acquire();
+        try {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            long position = 0;
+            while (position < length) {
+                byteBuffer.clear();
+                int n = channel.read(byteBuffer, position);
+                if (n == -1) {
+                    break;
+                }
+                digest.update(buffer, 0, n);
+                position += n;
+            }
+        } finally {
+            BoxAPIRequest.BODY_BUFFER_POOL.release(buffer);
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private void downloadRanges(BoxFile file, FileChannel channel, long fileSize, ProgressListener listener)
+        throws InterruptedException, IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(this.connections);
+        ProgressTracker progress = new ProgressTracker(listener, fileSize);
+        List<Future<?>> ranges = new ArrayList<>();
+        try {
+            for (long rangeStart = 0; rangeStart < fileSize; rangeStart += this.rangeSize) {
+                long rangeEnd = Math.min(rangeStart + this.rangeSize, fileSize) - 1;
+                ranges.add(executorService.submit(new RangeTask(file, channel, rangeStart, rangeEnd, progress)));
+            }
+
+            long deadline = System.nanoTime() + this.timeUnit.toNanos(this.timeout);
+            for (Future<?> range : ranges) {
+                try {
+                    range.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof BoxAPIException) {
+                        throw (BoxAPIException) e.getCause();
+                    }
+                    throw new BoxAPIException("Downloading a range of the file failed.", e.getCause());
+                } catch (TimeoutException e) {
+                    throw new BoxAPIException("Download ranges timedout");
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Reports the combined progress of all ranges to a single listener.
+     */
+    private static final class ProgressTracker {
+        private final ProgressListener listener;
+        private final long total;
+        private final AtomicLong downloaded = new AtomicLong();
+
+        ProgressTracker(ProgressListener listener, long total) {
+            this.listener = listener;
+            this.total = total;
+        }
+
+        void add(long numBytes) {
+            long current = this.downloaded.addAndGet(numBytes);
+            if (this.listener != null) {
+                synchronized (this) {
+                    this.listener.onProgressChanged(current, this.total);
+                }
+            }
+        }
+    }
+
+    /**
+     * Downloads a single range, retrying it from its start if the transfer is interrupted.
+     */
+    private static final class RangeTask implements Runnable {
+        private final BoxFile file;
+        private final FileChannel channel;
+        private final long rangeStart;
+        private final long rangeEnd;
+        private final ProgressTracker progress;
+
+        RangeTask(BoxFile file, FileChannel channel, long rangeStart, long rangeEnd, ProgressTracker progress) {
+            this.file = file;
+            this.channel = channel;
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+            this.progress = progress;
+        }
+
+        @Override
+        public void run() {
+            int attemptsRemaining = this.file.getAPI().getMaxRetryAttempts() + 1;
+            while (true) {
+                PositionalOutputStream output =
+                    new PositionalOutputStream(this.channel, this.rangeStart, this.progress);
+                try {
+                    this.file.downloadRange(output, this.rangeStart, this.rangeEnd);
+                    return;
+                } catch (BoxAPIException e) {
+                    this.progress.add(-output.getBytesWritten());
+                    attemptsRemaining--;
+                    // Only transfers that failed midway are retried here, BoxAPIRequest already retries error codes.
+                    if (attemptsRemaining <= 0 || !(e.getCause() instanceof IOException)
+                        || Thread.currentThread().isInterrupted()) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An OutputStream that writes to a FileChannel at consecutive positions without moving the channel's position.
+     */
+    private static final class PositionalOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final long start;
+        private final ProgressTracker progress;
+        private long position;
+
+        PositionalOutputStream(FileChannel channel, long start, ProgressTracker progress) {
+            this.channel = channel;
+            this.start = start;
+            this.progress = progress;
+            this.position = start;
+        }
+
+        long getBytesWritten() {
+            return this.position - this.start;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                this.position += this.channel.write(buffer, this.position);
+            }
+            this.progress.add(len);
+        }
+    }
+}
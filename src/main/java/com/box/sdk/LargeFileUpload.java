@@ -1,20 +1,37 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
+import com.box.sdk.internal.pool.ByteArrayPool;
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.security.DigestInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Utility class for uploading large files.
@@ -29,21 +46,43 @@ public final class LargeFileUpload {
     private static final int DEFAULT_CONNECTIONS = 3;
     private static final int DEFAULT_TIMEOUT = 1;
     private static final TimeUnit DEFAULT_TIMEUNIT = TimeUnit.HOURS;
-    private static final int THREAD_POOL_WAIT_TIME_IN_MILLIS = 1000;
-    private final ThreadPoolExecutor executorService;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private final ExecutorService executorService;
+    private final int maxPartsInFlight;
+    private final Map<Integer, ByteArrayPool> partBufferPools = new ConcurrentHashMap<>();
     private final long timeout;
     private final TimeUnit timeUnit;
-    private int connections;
 
     /**
      * Creates a LargeFileUpload object.
      *
+     * <p>The object can be used for any number of uploads, including concurrent ones. Its upload threads are daemon
+     * threads that are stopped after they have been idle for a minute.</p>
+     *
      * @param nParallelConnections number of parallel http connections to use
      * @param timeOut              time to wait before killing the job
      * @param unit                 time unit for the time wait value
      */
     public LargeFileUpload(int nParallelConnections, long timeOut, TimeUnit unit) {
-        this.executorService = (ThreadPoolExecutor) Executors.newFixedThreadPool(nParallelConnections);
+        this(createExecutor(nParallelConnections), nParallelConnections, timeOut, unit);
+    }
+
+    /**
+     * Creates a LargeFileUpload object that uploads parts with an executor shared with other uploads. The executor
+     * isn't shut down by this object.
+     *
+     * @param executorService      the executor used to upload the parts
+     * @param nParallelConnections number of parts uploaded in parallel by a single upload
+     * @param timeOut              time to wait before killing the job
+     * @param unit                 time unit for the time wait value
+     */
+    public LargeFileUpload(ExecutorService executorService, int nParallelConnections, long timeOut, TimeUnit unit) {
+        if (nParallelConnections < 1) {
+            throw new IllegalArgumentException("At least one connection is required.");
+        }
+        this.executorService = executorService;
+        //Allow 1.5x the number of connections to be read ahead of the parts being uploaded
+        this.maxPartsInFlight = nParallelConnections + (int) Math.ceil(nParallelConnections * 1.5);
         this.timeout = timeOut;
         this.timeUnit = unit;
     }
@@ -52,16 +91,21 @@ public final class LargeFileUpload {
      * Creates a LargeFileUpload object with a default number of parallel conections and timeout.
      */
     public LargeFileUpload() {
-        this.executorService = (ThreadPoolExecutor) Executors.newFixedThreadPool(LargeFileUpload.DEFAULT_CONNECTIONS);
-        this.timeout = LargeFileUpload.DEFAULT_TIMEOUT;
-        this.timeUnit = LargeFileUpload.DEFAULT_TIMEUNIT;
+        this(LargeFileUpload.DEFAULT_CONNECTIONS, LargeFileUpload.DEFAULT_TIMEOUT, LargeFileUpload.DEFAULT_TIMEUNIT);
     }
 
-    private static byte[] getBytesFromStream(InputStream stream, int numBytes) {
+    private static ExecutorService createExecutor(int nParallelConnections) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(nParallelConnections, nParallelConnections,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+            AsyncExecutors.daemonThreadFactory("box-large-file-upload-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static void readBytesFromStream(InputStream stream, byte[] bytes, int numBytes) {
 
         int bytesNeeded = numBytes;
         int offset = 0;
-        byte[] bytes = new byte[numBytes];
 
         while (bytesNeeded > 0) {
 
@@ -79,8 +123,6 @@ public final class LargeFileUpload {
             bytesNeeded = bytesNeeded - bytesRead;
             offset = offset + bytesRead;
         }
-
-        return bytes;
     }
 
     private BoxFileUploadSession.Info createUploadSession(BoxAPIConnection boxApi, String folderId,
@@ -96,7 +138,7 @@ public final class LargeFileUpload {
         request.setBody(body.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         String sessionId = jsonObject.get("id").asString();
         BoxFileUploadSession session = new BoxFileUploadSession(boxApi, sessionId);
@@ -184,19 +226,131 @@ public final class LargeFileUpload {
         return this.uploadHelper(session, stream, fileSize, fileAttributes);
     }
 
-    private BoxFile.Info uploadHelper(BoxFileUploadSession.Info session, InputStream stream, long fileSize,
-                                      Map<String, String> fileAttributes)
-        throws InterruptedException {
-        //Upload parts using the upload session
-        MessageDigest digest;
+    /**
+     * Uploads a new large file from a local file. The parts are memory-mapped from the file and uploaded in parallel,
+     * each read at its own offset.
+     *
+     * @param boxApi         the API connection to be used by the upload session.
+     * @param folderId       the id of the folder in which the file will be uploaded.
+     * @param file           the local file to upload.
+     * @param url            the upload session URL.
+     * @param fileName       the name of the file to be created.
+     * @param fileAttributes file attributes to set, or null.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread gets interupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info upload(BoxAPIConnection boxApi, String folderId, Path file, URL url, String fileName,
+                               Map<String, String> fileAttributes) throws InterruptedException, IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            BoxFileUploadSession.Info session = this.createUploadSession(boxApi, folderId, url, fileName, fileSize);
+            return this.uploadHelper(session, channel, fileSize, fileAttributes);
+        }
+    }
+
+    /**
+     * Creates a new version of a large file from a local file. The parts are memory-mapped from the file and uploaded
+     * in parallel, each read at its own offset.
+     *
+     * @param boxApi         the API connection to be used by the upload session.
+     * @param file           the local file to upload.
+     * @param url            the upload session URL.
+     * @param fileAttributes file attributes to set, or null.
+     * @return the file instance that also contains the version information.
+     * @throws InterruptedException when a thread gets interupted.
+     * @throws IOException          when reading the file throws exception.
+     */
+    public BoxFile.Info upload(BoxAPIConnection boxApi, Path file, URL url, Map<String, String> fileAttributes)
+        throws InterruptedException, IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            BoxFileUploadSession.Info session = this.createUploadSession(boxApi, url, fileSize);
+            return this.uploadHelper(session, channel, fileSize, fileAttributes);
+        }
+    }
+
+    /**
+     * Uploads a new large file from a local file, recording the progress in a journal so that the upload can be
+     * resumed by calling this method again with the same arguments, even from another process. A resumed upload
+     * reuses the upload session recorded in the journal while it hasn't expired, asks Box which parts it already has,
+     * and only uploads the missing parts. The journal is deleted once the upload session has been committed.
+     *
+     * @param boxApi         the API connection to be used by the upload session.
+     * @param folderId       the id of the folder in which the file will be uploaded.
+     * @param file           the local file to upload.
+     * @param url            the upload session URL.
+     * @param fileName       the name of the file to be created.
+     * @param fileAttributes file attributes to set, or null.
+     * @param journal        the path of the journal file.
+     * @return the created file instance.
+     * @throws InterruptedException when a thread gets interupted.
+     * @throws IOException          when reading the file or writing the journal throws exception.
+     */
+    public BoxFile.Info upload(BoxAPIConnection boxApi, String folderId, Path file, URL url, String fileName,
+                               Map<String, String> fileAttributes, Path journal)
+        throws InterruptedException, IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            String target = url + " " + folderId + " " + fileName;
+            return this.uploadResumable(boxApi, file, channel, fileSize, target, fileAttributes, journal,
+                () -> this.createUploadSession(boxApi, folderId, url, fileName, fileSize));
+        }
+    }
+
+    /**
+     * Creates a new version of a large file from a local file, recording the progress in a journal so that the upload
+     * can be resumed by calling this method again with the same arguments, even from another process. A resumed
+     * upload reuses the upload session recorded in the journal while it hasn't expired, asks Box which parts it
+     * already has, and only uploads the missing parts. The journal is deleted once the upload session has been
+     * committed.
+     *
+     * @param boxApi         the API connection to be used by the upload session.
+     * @param file           the local file to upload.
+     * @param url            the upload session URL.
+     * @param fileAttributes file attributes to set, or null.
+     * @param journal        the path of the journal file.
+     * @return the file instance that also contains the version information.
+     * @throws InterruptedException when a thread gets interupted.
+     * @throws IOException          when reading the file or writing the journal throws exception.
+     */
+    public BoxFile.Info upload(BoxAPIConnection boxApi, Path file, URL url, Map<String, String> fileAttributes,
+                               Path journal) throws InterruptedException, IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            return this.uploadResumable(boxApi, file, channel, fileSize, url.toString(), fileAttributes, journal,
+                () -> this.createUploadSession(boxApi, url, fileSize));
+        }
+    }
+
+    private static MessageDigest createFileDigest() {
         try {
-            digest = MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
+            return MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
         } catch (NoSuchAlgorithmException ae) {
             throw new BoxAPIException("Digest algorithm not found", ae);
         }
-        DigestInputStream dis = new DigestInputStream(stream, digest);
-        List<BoxFileUploadSessionPart> parts = this.uploadParts(session, dis, fileSize);
+    }
+
+    private BoxFile.Info uploadHelper(BoxFileUploadSession.Info session, InputStream stream, long fileSize,
+                                      Map<String, String> fileAttributes)
+        throws InterruptedException {
+        //Upload parts using the upload session
+        MessageDigest digest = createFileDigest();
+        List<BoxFileUploadSessionPart> parts = this.uploadParts(session, stream, fileSize, digest);
+        return this.commit(session, parts, digest, fileAttributes);
+    }
+
+    private BoxFile.Info uploadHelper(BoxFileUploadSession.Info session, FileChannel channel, long fileSize,
+                                      Map<String, String> fileAttributes)
+        throws InterruptedException {
+        //Upload parts using the upload session
+        MessageDigest digest = createFileDigest();
+        List<BoxFileUploadSessionPart> parts = this.uploadParts(session, channel, fileSize, digest);
+        return this.commit(session, parts, digest, fileAttributes);
+    }
 
+    private BoxFile.Info commit(BoxFileUploadSession.Info session, List<BoxFileUploadSessionPart> parts,
+                                MessageDigest digest, Map<String, String> fileAttributes) {
         //Creates the file hash
         byte[] digestBytes = digest.digest();
         String digestStr = Base64.encode(digestBytes);
@@ -219,7 +373,7 @@ public final class LargeFileUpload {
         request.setBody(body.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         String sessionId = jsonObject.get("id").asString();
         BoxFileUploadSession session = new BoxFileUploadSession(boxApi, sessionId);
@@ -229,53 +383,272 @@ public final class LargeFileUpload {
 
     /*
      * Upload parts of the file. The part size is retrieved from the upload session.
+     * Parts are read into pooled buffers, and reading blocks while the maximum number of parts is in flight.
+     * Each part is hashed for its Digest header on the uploading thread, while this thread feeds the same buffer to
+     * the whole file digest in order. A buffer is returned to the pool once both are done with it.
      */
     private List<BoxFileUploadSessionPart> uploadParts(BoxFileUploadSession.Info session, InputStream stream,
-                                                       long fileSize) throws InterruptedException {
-        List<BoxFileUploadSessionPart> parts = new ArrayList<>();
-
+                                                       long fileSize, MessageDigest fileDigest)
+        throws InterruptedException {
         int partSize = session.getPartSize();
-        long offset = 0;
-        long processed = 0;
-        int partPostion = 0;
-        //Set the Max Queue Size to 1.5x the number of processors
-        double maxQueueSizeDouble = Math.ceil(this.executorService.getMaximumPoolSize() * 1.5);
-        int maxQueueSize = Double.valueOf(maxQueueSizeDouble).intValue();
-        while (processed < fileSize) {
-            //Waiting for any thread to finish before
-            long timeoutForWaitingInMillis = TimeUnit.MILLISECONDS.convert(this.timeout, this.timeUnit);
-            if (this.executorService.getCorePoolSize() <= this.executorService.getActiveCount()) {
-                if (timeoutForWaitingInMillis > 0) {
-                    Thread.sleep(LargeFileUpload.THREAD_POOL_WAIT_TIME_IN_MILLIS);
-                    timeoutForWaitingInMillis -= THREAD_POOL_WAIT_TIME_IN_MILLIS;
-                } else {
+        int partCount = (int) ((fileSize + partSize - 1) / partSize);
+        List<BoxFileUploadSessionPart> parts = new ArrayList<>(Collections.nCopies(partCount, null));
+        List<Future<?>> uploads = new ArrayList<>(partCount);
+        ByteArrayPool bufferPool = this.partBufferPools.computeIfAbsent(partSize,
+            size -> new ByteArrayPool(size, this.maxPartsInFlight));
+        Semaphore partsInFlight = new Semaphore(this.maxPartsInFlight);
+        long deadline = System.nanoTime() + this.timeUnit.toNanos(this.timeout);
+
+        try {
+            long offset = 0;
+            for (int partPosition = 0; partPosition < partCount; partPosition++) {
+                if (!partsInFlight.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
                     throw new BoxAPIException("Upload parts timedout");
                 }
+
+                //The size last part of the file can be lesser than the part size.
+                int currentPartSize = (int) Math.min(partSize, fileSize - offset);
+                byte[] bytes = bufferPool.acquire();
+                LargeFileUploadTask task;
+                try {
+                    readBytesFromStream(stream, bytes, currentPartSize);
+                    task = new LargeFileUploadTask(session.getResource(), bytes, offset, currentPartSize, fileSize,
+                        parts, partPosition);
+                } catch (RuntimeException e) {
+                    bufferPool.release(bytes);
+                    partsInFlight.release();
+                    throw e;
+                }
+                AtomicInteger bufferUsers = new AtomicInteger(2);
+                Runnable releaseBuffer = () -> {
+                    if (bufferUsers.decrementAndGet() == 0) {
+                        bufferPool.release(bytes);
+                        partsInFlight.release();
+                    }
+                };
+                uploads.add(this.executorService.submit(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        releaseBuffer.run();
+                    }
+                }));
+                try {
+                    fileDigest.update(bytes, 0, currentPartSize);
+                } finally {
+                    releaseBuffer.run();
+                }
+
+                //Increase the offset to calculate the Content-Range header.
+                offset += currentPartSize;
+            }
+
+            awaitUploads(uploads, deadline);
+        } catch (BoxAPIException | InterruptedException e) {
+            cancelUploads(session, uploads, e);
+            throw e;
+        }
+        return parts;
+    }
+
+    /*
+     * Upload parts of a local file. The part size is retrieved from the upload session.
+     */
+    private List<BoxFileUploadSessionPart> uploadParts(BoxFileUploadSession.Info session, FileChannel channel,
+                                                       long fileSize, MessageDigest fileDigest)
+        throws InterruptedException {
+        return this.uploadMappedParts(session, channel, fileSize, fileDigest, (offset, size) -> null, null, true);
+    }
+
+    private BoxFile.Info uploadResumable(BoxAPIConnection boxApi, Path file, FileChannel channel, long fileSize,
+                                         String target, Map<String, String> fileAttributes, Path journalPath,
+                                         Supplier<BoxFileUploadSession.Info> sessionFactory)
+        throws InterruptedException, IOException {
+        long fileModified = Files.getLastModifiedTime(file).toMillis();
+        UploadSessionJournal journal = UploadSessionJournal.read(journalPath);
+        BoxFileUploadSession.Info session = null;
+        if (journal != null && journal.matches(target, fileSize, fileModified)) {
+            session = resumeUploadSession(boxApi, journal);
+        }
+        if (session == null) {
+            session = sessionFactory.get();
+            journal = new UploadSessionJournal(journalPath, target, fileSize, fileModified,
+                Json.parse(session.getJson()).asObject());
+            journal.write();
+        }
+
+        MessageDigest digest = createFileDigest();
+        List<BoxFileUploadSessionPart> parts = this.uploadMissingParts(session, channel, fileSize, digest, journal);
+
+        //The session is kept if the commit fails, so that the commit can be retried by resuming the upload.
+        BoxFile.Info uploadedFile = session.getResource().commit(Base64.encode(digest.digest()), parts,
+            fileAttributes, null, null);
+        journal.delete();
+        return uploadedFile;
+    }
+
+    /*
+     * Restores the upload session recorded in a journal and reconciles the journal with the parts Box has received.
+     * Returns null if the session has expired or no longer exists.
+     */
+    private static BoxFileUploadSession.Info resumeUploadSession(BoxAPIConnection boxApi,
+                                                                 UploadSessionJournal journal) throws IOException {
+        JsonObject sessionObject = journal.getSession();
+        BoxFileUploadSession uploadSession = new BoxFileUploadSession(boxApi, sessionObject.get("id").asString());
+        BoxFileUploadSession.Info session = uploadSession.new Info(sessionObject);
+        Date expiresAt = session.getSessionExpiresAt();
+        if (expiresAt != null && expiresAt.getTime() <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        List<BoxFileUploadSessionPart> uploadedParts = new ArrayList<>();
+        try {
+            for (BoxFileUploadSessionPart part : uploadSession.listParts()) {
+                uploadedParts.add(part);
+            }
+        } catch (BoxAPIException e) {
+            if (e.getResponseCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+        journal.reconcile(uploadedParts);
+        return session;
+    }
+
+    /*
+     * Upload the parts of a local file that aren't recorded in the journal, recording each part once it is uploaded.
+     * The session is kept if the upload fails, so that the upload can be resumed.
+     */
+    private List<BoxFileUploadSessionPart> uploadMissingParts(BoxFileUploadSession.Info session, FileChannel channel,
+                                                              long fileSize, MessageDigest fileDigest,
+                                                              UploadSessionJournal journal)
+        throws InterruptedException {
+        return this.uploadMappedParts(session, channel, fileSize, fileDigest, (offset, size) -> {
+            BoxFileUploadSessionPart uploadedPart = journal.getPart(offset);
+            if (uploadedPart != null && uploadedPart.getSize() == size) {
+                return uploadedPart;
+            }
+            return null;
+        }, part -> {
+            try {
+                journal.addPart(part);
+            } catch (IOException e) {
+                throw new BoxAPIException("Couldn't write the upload journal.", e);
             }
-            if (this.executorService.getQueue().size() < maxQueueSize) {
-                long diff = fileSize - processed;
+        }, false);
+    }
+
+    /*
+     * Upload parts of a local file. The part size is retrieved from the upload session.
+     * Each part is a read-only memory-mapped region of the file, which the uploading thread hashes and sends without
+     * copying it into a part buffer. Mapping blocks while the maximum number of parts is in flight. This thread feeds
+     * every region, including the ones of parts that were uploaded before, to the whole file digest in order.
+     * A part that uploadedParts returns for the offset and size of a region isn't uploaded again, and onPartUploaded
+     * is called, unless it's null, on the uploading thread with each part that is.
+     */
+    private List<BoxFileUploadSessionPart> uploadMappedParts(
+        BoxFileUploadSession.Info session, FileChannel channel, long fileSize, MessageDigest fileDigest,
+        BiFunction<Long, Integer, BoxFileUploadSessionPart> uploadedParts,
+        Consumer<BoxFileUploadSessionPart> onPartUploaded, boolean abortOnFailure
+    ) throws InterruptedException {
+        int partSize = session.getPartSize();
+        int partCount = (int) ((fileSize + partSize - 1) / partSize);
+        List<BoxFileUploadSessionPart> parts = new ArrayList<>(Collections.nCopies(partCount, null));
+        List<Future<?>> uploads = new ArrayList<>(partCount);
+        Semaphore partsInFlight = new Semaphore(this.maxPartsInFlight);
+        long deadline = System.nanoTime() + this.timeUnit.toNanos(this.timeout);
+
+        try {
+            long offset = 0;
+            for (int partPosition = 0; partPosition < partCount; partPosition++) {
                 //The size last part of the file can be lesser than the part size.
-                if (diff < (long) partSize) {
-                    partSize = (int) diff;
+                int currentPartSize = (int) Math.min(partSize, fileSize - offset);
+                BoxFileUploadSessionPart uploadedPart = uploadedParts.apply(offset, currentPartSize);
+
+                if (!partsInFlight.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new BoxAPIException("Upload parts timedout");
                 }
-                parts.add(null);
-                byte[] bytes = getBytesFromStream(stream, partSize);
-                this.executorService.execute(
-                    new LargeFileUploadTask(session.getResource(), bytes, offset,
-                        partSize, fileSize, parts, partPostion)
-                );
-
-                //Increase the offset and proceesed bytes to calculate the Content-Range header.
-                processed += partSize;
-                offset += partSize;
-                partPostion++;
+                ByteBuffer part;
+                try {
+                    part = channel.map(FileChannel.MapMode.READ_ONLY, offset, currentPartSize);
+                } catch (IOException ioe) {
+                    partsInFlight.release();
+                    throw new BoxAPIException("Reading data from file failed.", ioe);
+                }
+                AtomicInteger partUsers = new AtomicInteger(uploadedPart == null ? 2 : 1);
+                Runnable releasePart = () -> {
+                    if (partUsers.decrementAndGet() == 0) {
+                        partsInFlight.release();
+                    }
+                };
+
+                if (uploadedPart != null) {
+                    parts.set(partPosition, uploadedPart);
+                } else {
+                    int position = partPosition;
+                    LargeFileUploadTask task = new LargeFileUploadTask(session.getResource(),
+                        part.asReadOnlyBuffer(), offset, fileSize, parts, partPosition);
+                    uploads.add(this.executorService.submit(() -> {
+                        try {
+                            task.run();
+                            if (onPartUploaded != null) {
+                                onPartUploaded.accept(parts.get(position));
+                            }
+                        } finally {
+                            releasePart.run();
+                        }
+                    }));
+                }
+                try {
+                    fileDigest.update(part);
+                } finally {
+                    releasePart.run();
+                }
+
+                offset += currentPartSize;
             }
+
+            awaitUploads(uploads, deadline);
+        } catch (BoxAPIException | InterruptedException e) {
+            if (abortOnFailure) {
+                cancelUploads(session, uploads, e);
+            } else {
+                for (Future<?> upload : uploads) {
+                    upload.cancel(true);
+                }
+            }
+            throw e;
         }
-        this.executorService.shutdown();
-        this.executorService.awaitTermination(this.timeout, this.timeUnit);
         return parts;
     }
 
+    private static void awaitUploads(List<Future<?>> uploads, long deadline) throws InterruptedException {
+        for (Future<?> upload : uploads) {
+            try {
+                upload.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof BoxAPIException) {
+                    throw (BoxAPIException) e.getCause();
+                }
+                throw new BoxAPIException("Uploading a part of the file failed.", e.getCause());
+            } catch (TimeoutException e) {
+                throw new BoxAPIException("Upload parts timedout");
+            }
+        }
+    }
+
+    private static void cancelUploads(BoxFileUploadSession.Info session, List<Future<?>> uploads, Exception cause) {
+        for (Future<?> upload : uploads) {
+            upload.cancel(true);
+        }
+        try {
+            session.getResource().abort();
+        } catch (BoxAPIException abortException) {
+            cause.addSuppressed(abortException);
+        }
+    }
+
     /**
      * Generates the Base64 encoded SHA-1 hash for content available in the stream.
      * It can be used to calculate the hash of a file.
@@ -292,14 +665,17 @@ public final class LargeFileUpload {
         }
 
         //Calcuate the digest using the stream.
-        DigestInputStream dis = new DigestInputStream(stream, digest);
+        byte[] buffer = BoxAPIRequest.BODY_BUFFER_POOL.acquire();
         try {
-            int value = dis.read();
-            while (value != -1) {
-                value = dis.read();
+            int n = stream.read(buffer);
+            while (n != -1) {
+                digest.update(buffer, 0, n);
+                n = stream.read(buffer);
             }
         } catch (IOException ioe) {
             throw new BoxAPIException("Reading the stream failed.", ioe);
+        } finally {
+            BoxAPIRequest.BODY_BUFFER_POOL.release(buffer);
         }
 
         //Get the calculated digest for the stream
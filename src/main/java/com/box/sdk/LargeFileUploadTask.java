@@ -1,5 +1,6 @@
 package com.box.sdk;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -10,6 +11,7 @@ public class LargeFileUploadTask implements Runnable {
     private final int partPostion;
     private BoxFileUploadSession session;
     private byte[] data;
+    private ByteBuffer buffer;
     private List<BoxFileUploadSessionPart> parts;
     private long offset;
     private int partSize;
@@ -37,14 +39,40 @@ public class LargeFileUploadTask implements Runnable {
         this.partPostion = partPostion;
     }
 
+    /**
+     * Runable task to upload a part held in a ByteBuffer, such as a memory-mapped region of a local file.
+     *
+     * @param session     file upload session object
+     * @param buffer      the contents of the part between the buffer's position and limit
+     * @param offset      stream offset
+     * @param fileSize    total file size
+     * @param parts       list of the BoxFileUploadSessionPart objects
+     * @param partPostion sequence number of the part
+     */
+    LargeFileUploadTask(BoxFileUploadSession session, ByteBuffer buffer, long offset, long fileSize,
+                        List<BoxFileUploadSessionPart> parts, int partPostion) {
+        this.session = session;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.partSize = buffer.remaining();
+        this.fileSize = fileSize;
+        this.parts = parts;
+        this.partPostion = partPostion;
+    }
+
     @Override
     public void run() {
+        //Hashes the part once, on the uploading thread, and reuses the digest if the upload is retried.
+        String digest;
+        if (this.buffer != null) {
+            digest = BoxFileUploadSession.computePartDigest(this.buffer);
+        } else {
+            digest = BoxFileUploadSession.computePartDigest(this.data, this.partSize);
+        }
         //Retries the upload part 3 times in case of failure.
         for (int i = 0; i < 3; i++) {
             try {
-                BoxFileUploadSessionPart part =
-                    this.session.uploadPart(this.data, this.offset, this.partSize, this.fileSize);
-                this.parts.set(this.partPostion, part);
+                this.parts.set(this.partPostion, this.uploadPart(digest));
                 return;
             } catch (BoxAPIException ex) {
                 if (i == 2) {
@@ -54,4 +82,11 @@ public class LargeFileUploadTask implements Runnable {
         }
         throw new BoxAPIException("Upload part failed for offset: " + this.offset + " range: " + this.partSize);
     }
+
+    private BoxFileUploadSessionPart uploadPart(String digest) {
+        if (this.buffer != null) {
+            return this.session.uploadPart(this.buffer, this.offset, this.fileSize, digest);
+        }
+        return this.session.uploadPart(this.data, this.offset, this.partSize, this.fileSize, digest);
+    }
 }
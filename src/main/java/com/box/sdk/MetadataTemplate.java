@@ -197,10 +197,10 @@ public class MetadataTemplate extends BoxJSONObject {
 
         URL url = METADATA_TEMPLATE_SCHEMA_URL_TEMPLATE.build(api.getBaseURL());
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
-        request.setBody(jsonObject.toString());
+        request.setBody(jsonObject);
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJSON = response.getJsonObject();
 
         return new MetadataTemplate(responseJSON);
     }
@@ -266,7 +266,7 @@ public class MetadataTemplate extends BoxJSONObject {
         request.setBody(array.toString());
 
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject responseJson = Json.parse(response.getJSON()).asObject();
+        JsonObject responseJson = response.getJsonObject();
 
         return new MetadataTemplate(responseJson);
     }
@@ -710,7 +710,7 @@ public class MetadataTemplate extends BoxJSONObject {
             api.getBaseURL(), builder.toString(), scope, templateName);
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new MetadataTemplate(response.getJSON());
+        return new MetadataTemplate(response.getJsonObject());
     }
 
     /**
@@ -725,7 +725,7 @@ public class MetadataTemplate extends BoxJSONObject {
         URL url = METADATA_TEMPLATE_BY_ID_URL_TEMPLATE.buildAlpha(api.getBaseURL(), templateID);
         BoxAPIRequest request = new BoxAPIRequest(api, url, "GET");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        return new MetadataTemplate(response.getJSON());
+        return new MetadataTemplate(response.getJsonObject());
     }
 
     /**
@@ -0,0 +1,39 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * The default {@link BoxJSONCodec}, which reads and writes JSON with minimal-json.
+ */
+final class MinimalJSONCodec implements BoxJSONCodec {
+    static final MinimalJSONCodec INSTANCE = new MinimalJSONCodec();
+
+    private MinimalJSONCodec() {
+    }
+
+    @Override
+    public JsonValue read(Reader reader) throws IOException {
+        return Json.parse(reader);
+    }
+
+    @Override
+    public JsonValue read(String json) {
+        return Json.parse(json);
+    }
+
+    @Override
+    public void write(JsonValue value, Writer writer) throws IOException {
+        value.writeTo(writer);
+    }
+
+    @Override
+    public JsonObject readPage(Reader reader, Consumer<JsonObject> entryConsumer) throws IOException {
+        return JsonPageParser.parse(reader, entryConsumer);
+    }
+}
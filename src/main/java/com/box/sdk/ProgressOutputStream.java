@@ -44,11 +44,7 @@ class ProgressOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.stream.write(b, off, len);
-        if (len < b.length) {
-            this.totalWritten += len;
-        } else {
-            this.totalWritten += b.length;
-        }
+        this.totalWritten += len;
         this.listener.onProgressChanged(this.totalWritten, this.total);
     }
 
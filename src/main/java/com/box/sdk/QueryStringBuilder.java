@@ -21,27 +21,20 @@ class QueryStringBuilder {
     }
 
     QueryStringBuilder appendParam(String key, String... fields) {
-        StringBuilder valuesBuilder = new StringBuilder();
-        for (String field : fields) {
-            valuesBuilder.append(field);
-            valuesBuilder.append(",");
+        this.appendKey(key);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                // The encoded form of the "," that separates the values.
+                this.stringBuilder.append("%2C");
+            }
+            this.appendEncoded(String.valueOf(fields[i]));
         }
-        valuesBuilder.deleteCharAt(valuesBuilder.length() - 1);
-
-        this.appendParam(key, valuesBuilder.toString());
         return this;
     }
 
     QueryStringBuilder appendParam(String key, String value) {
-        if (this.stringBuilder.length() == 0) {
-            this.stringBuilder.append('?');
-        } else {
-            this.stringBuilder.append('&');
-        }
-
-        this.stringBuilder.append(key);
-        this.stringBuilder.append('=');
-        this.stringBuilder.append(this.encode(value));
+        this.appendKey(key);
+        this.appendEncoded(value);
         return this;
     }
 
@@ -50,27 +43,38 @@ class QueryStringBuilder {
     }
 
     URL addToURL(URL existing) throws MalformedURLException {
-        QueryStringBuilder builderFromExistingUrl = new QueryStringBuilder(existing.toString());
-        if (existing.getQuery() == null) {
-            builderFromExistingUrl.stringBuilder.append(this.stringBuilder);
+        String existingURL = existing.toString();
+        String existingQuery = existing.getQuery();
+        StringBuilder builder = new StringBuilder(existingURL.length() + this.stringBuilder.length());
+        builder.append(existingURL);
+        if (existingQuery == null) {
+            builder.append(this.stringBuilder);
         } else {
-            if (existing.getQuery().length() > 0) {
-                builderFromExistingUrl.stringBuilder.append("&");
+            if (existingQuery.length() > 0) {
+                builder.append('&');
             }
-            builderFromExistingUrl.stringBuilder.append(this.stringBuilder.substring(1));
+            builder.append(this.stringBuilder, 1, this.stringBuilder.length());
         }
-        return new URL(builderFromExistingUrl.toString());
+        return new URL(builder.toString());
     }
 
     URL replaceQuery(URL existing) throws MalformedURLException {
+        String existingURL = existing.toString();
         String existingQuery = existing.getQuery();
-        String newQuery = this.toString();
         if (existingQuery == null || existingQuery.equals("")) {
-            return new URL(existing + newQuery);
+            return new URL(existingURL + this.stringBuilder);
         }
 
-        return new URL(existing.toString()
-            .replace(existingQuery, newQuery.startsWith("?") ? newQuery.substring(1) : newQuery));
+        // The query starts right after the first "?" of the URL, so the URL is cut there instead of searched for the
+        // text of the query.
+        int queryStart = existingURL.indexOf('?') + 1;
+        int queryEnd = queryStart + existingQuery.length();
+        int newQueryStart = this.stringBuilder.length() > 0 && this.stringBuilder.charAt(0) == '?' ? 1 : 0;
+        StringBuilder builder = new StringBuilder(existingURL.length() + this.stringBuilder.length());
+        builder.append(existingURL, 0, queryStart);
+        builder.append(this.stringBuilder, newQueryStart, this.stringBuilder.length());
+        builder.append(existingURL, queryEnd, existingURL.length());
+        return new URL(builder.toString());
     }
 
     @Override
@@ -78,11 +82,41 @@ class QueryStringBuilder {
         return this.stringBuilder.toString();
     }
 
-    private String encode(String unencoded) {
+    private void appendKey(String key) {
+        if (this.stringBuilder.length() == 0) {
+            this.stringBuilder.append('?');
+        } else {
+            this.stringBuilder.append('&');
+        }
+
+        this.stringBuilder.append(key);
+        this.stringBuilder.append('=');
+    }
+
+    private void appendEncoded(String unencoded) {
+        // Most values, such as IDs, markers and field names, are left unchanged by URLEncoder, so they're appended as
+        // they are.
+        if (isUnreserved(unencoded)) {
+            this.stringBuilder.append(unencoded);
+            return;
+        }
+
         try {
-            return URLEncoder.encode(unencoded, "UTF-8");
+            this.stringBuilder.append(URLEncoder.encode(unencoded, "UTF-8"));
         } catch (UnsupportedEncodingException ex) {
             throw new BoxAPIException(ex.getMessage());
         }
     }
+
+    private static boolean isUnreserved(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_';
+            if (!unreserved) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import java.net.MalformedURLException;
@@ -19,7 +18,7 @@ class RealtimeServerConnection {
     RealtimeServerConnection(BoxAPIConnection api) {
         BoxAPIRequest request = new BoxAPIRequest(api, EVENT_URL.build(api.getBaseURL()), "OPTIONS");
         BoxJSONResponse response = (BoxJSONResponse) request.send();
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
         JsonArray entries = jsonObject.get("entries").asArray();
         JsonObject firstEntry = entries.get(0).asObject();
         this.serverURLString = firstEntry.get("url").asString();
@@ -52,7 +51,7 @@ class RealtimeServerConnection {
                 request.setConnectTimeout(this.timeout * 1000);
                 request.setReadTimeout(this.timeout * 1000);
                 BoxJSONResponse response = (BoxJSONResponse) request.send();
-                JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+                JsonObject jsonObject = response.getJsonObject();
                 String message = jsonObject.get("message").asString();
                 if (message.equals("new_change")) {
                     return true;
@@ -0,0 +1,378 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.eclipsesource.json.ParseException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility class for downloads that can be resumed after they are interrupted.
+ *
+ * <p>While the content is written to the destination file, the byte ranges that have been flushed to disk are recorded
+ * in a checkpoint file next to it, along with the etag, SHA-1 and size of the content being downloaded. When the same
+ * content is downloaded to the same destination again, only the missing ranges are requested. If the content changed
+ * on Box in the meantime, the download starts over from the first byte. The checkpoint file is removed once the
+ * destination file has been verified against the SHA-1 reported by Box.</p>
+ */
+public final class ResumableDownload {
+
+    /**
+     * The suffix appended to the name of the destination file to get the name of its checkpoint file.
+     */
+    public static final String CHECKPOINT_SUFFIX = ".boxdownload";
+
+    /**
+     * The number of bytes written between two checkpoints unless another interval is given.
+     */
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 8 * 1024 * 1024;
+
+    private final long checkpointInterval;
+
+    /**
+     * Creates a ResumableDownload object.
+     *
+     * @param checkpointInterval number of bytes written to the destination file between two checkpoints.
+     */
+    public ResumableDownload(long checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive.");
+        }
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Creates a ResumableDownload object with the default checkpoint interval.
+     */
+    public ResumableDownload() {
+        this(DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Gets the path of the checkpoint file used when downloading to a destination.
+     *
+     * @param destination the path to which the file is written.
+     * @return the path of the checkpoint file next to the destination.
+     */
+    public static Path getCheckpointPath(Path destination) {
+        return destination.resolveSibling(destination.getFileName() + CHECKPOINT_SUFFIX);
+    }
+
+    /**
+     * Downloads a file to a local path, resuming a previous download to the same path if there is one.
+     *
+     * @param file        the file to download.
+     * @param destination the path to which the file will be written.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     */
+    public void download(BoxFile file, Path destination) throws IOException {
+        this.download(file, destination, null);
+    }
+
+    /**
+     * Downloads a file to a local path, resuming a previous download to the same path if there is one, while
+     * reporting the progress to a ProgressListener. The progress includes the bytes written by previous attempts.
+     *
+     * @param file        the file to download.
+     * @param destination the path to which the file will be written.
+     * @param listener    a listener for monitoring the download's progress.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     */
+    public void download(BoxFile file, Path destination, ProgressListener listener) throws IOException {
+        BoxFile.Info info = file.getInfo("size", "sha1", "etag");
+        Checkpoint expected = new Checkpoint(file.getID(), null, info.getEtag(), info.getSha1(), info.getSize());
+        this.download(file.getAPI(), file::downloadRange, expected, destination, listener);
+    }
+
+    /**
+     * Downloads a version of a file to a local path, resuming a previous download to the same path if there is one.
+     *
+     * @param version     the version of the file to download.
+     * @param destination the path to which the file will be written.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     */
+    public void download(BoxFileVersion version, Path destination) throws IOException {
+        this.download(version, destination, null);
+    }
+
+    /**
+     * Downloads a version of a file to a local path, resuming a previous download to the same path if there is one,
+     * while reporting the progress to a ProgressListener. The progress includes the bytes written by previous attempts.
+     *
+     * @param version     the version of the file to download.
+     * @param destination the path to which the file will be written.
+     * @param listener    a listener for monitoring the download's progress.
+     * @throws IOException when writing the destination file or its checkpoint throws exception.
+     */
+    public void download(BoxFileVersion version, Path destination, ProgressListener listener) throws IOException {
+        Checkpoint expected = new Checkpoint(version.getFileID(), version.getID(), null, version.getSha1(),
+            version.getSize());
+        this.download(version.getAPI(), version::downloadRange, expected, destination, listener);
+    }
+
+    private void download(BoxAPIConnection api, RangeSource source, Checkpoint expected, Path destination,
+                          ProgressListener listener) throws IOException {
+        Path checkpointPath = getCheckpointPath(destination);
+        Checkpoint checkpoint = Checkpoint.read(checkpointPath);
+        boolean resume = checkpoint != null && checkpoint.isSameContent(expected) && Files.exists(destination);
+        if (!resume) {
+            checkpoint = expected;
+        }
+
+        try (FileChannel channel = FileChannel.open(destination, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!resume) {
+                channel.truncate(0);
+                checkpoint.write(checkpointPath);
+            }
+
+            for (long[] range : checkpoint.getMissingRanges()) {
+                this.downloadRange(api, source, channel, checkpoint, checkpointPath, range[0], range[1], listener);
+            }
+            channel.force(false);
+
+            String sha1 = expected.sha1;
+            if (sha1 != null && !sha1.equalsIgnoreCase(LargeFileDownload.computeSha1(channel, expected.size))) {
+                Files.deleteIfExists(checkpointPath);
+                throw new BoxAPIException("The downloaded file doesn't match the SHA-1 of the file on Box.");
+            }
+        }
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    private void downloadRange(BoxAPIConnection api, RangeSource source, FileChannel channel, Checkpoint checkpoint,
+                               Path checkpointPath, long rangeStart, long rangeEnd, ProgressListener listener)
+        throws IOException {
+        int attemptsRemaining = api.getMaxRetryAttempts() + 1;
+        long position = rangeStart;
+        while (position <= rangeEnd) {
+            CheckpointingOutputStream output = new CheckpointingOutputStream(channel, position, checkpoint,
+                checkpointPath, this.checkpointInterval, listener);
+            try {
+                source.downloadRange(output, position, rangeEnd);
+                output.checkpoint();
+                return;
+            } catch (BoxAPIException e) {
+                try {
+                    output.checkpoint();
+                } catch (IOException checkpointException) {
+                    e.addSuppressed(checkpointException);
+                    throw e;
+                }
+                attemptsRemaining--;
+                // Only transfers that failed midway are resumed here, BoxAPIRequest already retries error codes.
+                if (attemptsRemaining <= 0 || !(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+                position = output.getPosition();
+            }
+        }
+    }
+
+    /**
+     * Downloads a range of some content on Box.
+     */
+    private interface RangeSource {
+        void downloadRange(OutputStream output, long rangeStart, long rangeEnd);
+    }
+
+    /**
+     * The identity of the content being downloaded and the byte ranges of it that have been written to disk.
+     */
+    private static final class Checkpoint {
+        private final String fileID;
+        private final String versionID;
+        private final String etag;
+        private final String sha1;
+        private final long size;
+        private final List<long[]> completedRanges = new ArrayList<>();
+
+        Checkpoint(String fileID, String versionID, String etag, String sha1, long size) {
+            this.fileID = fileID;
+            this.versionID = versionID;
+            this.etag = etag;
+            this.sha1 = sha1;
+            this.size = size;
+        }
+
+        static Checkpoint read(Path path) throws IOException {
+            String json = AtomicFiles.read(path);
+            if (json == null) {
+                return null;
+            }
+
+            // A checkpoint that can't be read is treated as missing and the download starts over.
+            JsonValue value;
+            try {
+                value = Json.parse(json);
+            } catch (ParseException e) {
+                return null;
+            }
+            if (!value.isObject()) {
+                return null;
+            }
+            JsonObject jsonObject = value.asObject();
+            JsonValue size = jsonObject.get("size");
+            JsonValue ranges = jsonObject.get("completed_ranges");
+            if (size == null || !size.isNumber() || ranges == null || !ranges.isArray()) {
+                return null;
+            }
+
+            Checkpoint checkpoint = new Checkpoint(getString(jsonObject, "file_id"),
+                getString(jsonObject, "version_id"), getString(jsonObject, "etag"),
+                getString(jsonObject, "sha1"), size.asLong());
+            for (JsonValue range : ranges.asArray()) {
+                if (!range.isArray()) {
+                    return null;
+                }
+                JsonArray bounds = range.asArray();
+                if (bounds.size() != 2 || !bounds.get(0).isNumber() || !bounds.get(1).isNumber()) {
+                    return null;
+                }
+                checkpoint.addCompletedRange(bounds.get(0).asLong(), bounds.get(1).asLong());
+            }
+            return checkpoint;
+        }
+
+        private static String getString(JsonObject jsonObject, String name) {
+            JsonValue value = jsonObject.get(name);
+            return value == null || !value.isString() ? null : value.asString();
+        }
+
+        void write(Path path) throws IOException {
+            JsonArray ranges = new JsonArray();
+            for (long[] range : this.completedRanges) {
+                ranges.add(new JsonArray().add(range[0]).add(range[1]));
+            }
+            JsonObject jsonObject = new JsonObject()
+                .add("file_id", this.fileID)
+                .add("version_id", this.versionID)
+                .add("etag", this.etag)
+                .add("sha1", this.sha1)
+                .add("size", this.size)
+                .add("completed_ranges", ranges);
+
+            AtomicFiles.write(path, jsonObject.toString());
+        }
+
+        boolean isSameContent(Checkpoint other) {
+            return Objects.equals(this.fileID, other.fileID)
+                && Objects.equals(this.versionID, other.versionID)
+                && Objects.equals(this.etag, other.etag)
+                && Objects.equals(this.sha1, other.sha1)
+                && this.size == other.size;
+        }
+
+        void addCompletedRange(long rangeStart, long rangeEnd) {
+            if (rangeEnd < rangeStart) {
+                return;
+            }
+
+            long start = rangeStart;
+            long end = rangeEnd;
+            int index = 0;
+            while (index < this.completedRanges.size() && this.completedRanges.get(index)[1] < start - 1) {
+                index++;
+            }
+            while (index < this.completedRanges.size() && this.completedRanges.get(index)[0] <= end + 1) {
+                long[] merged = this.completedRanges.remove(index);
+                start = Math.min(start, merged[0]);
+                end = Math.max(end, merged[1]);
+            }
+            this.completedRanges.add(index, new long[]{start, end});
+        }
+
+        long getCompletedBytes() {
+            long completed = 0;
+            for (long[] range : this.completedRanges) {
+                completed += range[1] - range[0] + 1;
+            }
+            return completed;
+        }
+
+        List<long[]> getMissingRanges() {
+            List<long[]> missing = new ArrayList<>();
+            long next = 0;
+            for (long[] range : this.completedRanges) {
+                if (range[0] > next) {
+                    missing.add(new long[]{next, Math.min(range[0], this.size) - 1});
+                }
+                next = Math.max(next, range[1] + 1);
+            }
+            if (next < this.size) {
+                missing.add(new long[]{next, this.size - 1});
+            }
+            return missing;
+        }
+    }
+
+    /**
+     * An OutputStream that writes to a FileChannel at consecutive positions and records the bytes it has flushed to
+     * disk in a checkpoint.
+     */
+    private static final class CheckpointingOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final Checkpoint checkpoint;
+        private final Path checkpointPath;
+        private final long checkpointInterval;
+        private final ProgressListener listener;
+        private long checkpointPosition;
+        private long position;
+
+        CheckpointingOutputStream(FileChannel channel, long start, Checkpoint checkpoint, Path checkpointPath,
+                                  long checkpointInterval, ProgressListener listener) {
+            this.channel = channel;
+            this.checkpoint = checkpoint;
+            this.checkpointPath = checkpointPath;
+            this.checkpointInterval = checkpointInterval;
+            this.listener = listener;
+            this.checkpointPosition = start;
+            this.position = start;
+        }
+
+        long getPosition() {
+            return this.position;
+        }
+
+        void checkpoint() throws IOException {
+            if (this.position == this.checkpointPosition) {
+                return;
+            }
+
+            this.channel.force(false);
+            this.checkpoint.addCompletedRange(this.checkpointPosition, this.position - 1);
+            this.checkpoint.write(this.checkpointPath);
+            this.checkpointPosition = this.position;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                this.position += this.channel.write(buffer, this.position);
+            }
+            if (this.position - this.checkpointPosition >= this.checkpointInterval) {
+                this.checkpoint();
+            }
+            if (this.listener != null) {
+                long written = this.checkpoint.getCompletedBytes() + this.position - this.checkpointPosition;
+                this.listener.onProgressChanged(written, this.checkpoint.size);
+            }
+        }
+    }
+}
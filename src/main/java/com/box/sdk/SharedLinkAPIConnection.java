@@ -1,5 +1,7 @@
 package com.box.sdk;
 
+import java.util.concurrent.Executor;
+
 /**
  * This API connection uses a shared link (along with an optional password) to authenticate with the Box API. It wraps a
  * preexisting BoxAPIConnection in order to provide additional access to items that are accessible with a shared link.
@@ -53,6 +55,26 @@ public class SharedLinkAPIConnection extends BoxAPIConnection {
         this.wrappedConnection.setBaseUploadURL(baseUploadURL);
     }
 
+    @Override
+    public HttpTransport getHttpTransport() {
+        return this.wrappedConnection.getHttpTransport();
+    }
+
+    @Override
+    public void setHttpTransport(HttpTransport httpTransport) {
+        this.wrappedConnection.setHttpTransport(httpTransport);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return this.wrappedConnection.getAsyncExecutor();
+    }
+
+    @Override
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.wrappedConnection.setAsyncExecutor(asyncExecutor);
+    }
+
     @Override
     public String getUserAgent() {
         return this.wrappedConnection.getUserAgent();
@@ -1,18 +1,26 @@
 package com.box.sdk;
 
-import static java.lang.String.format;
-
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A template class to build URLs from base URL, path, URL parameters and Query String.
+ *
+ * <p>The template is split into its literal segments and parameter slots when it's constructed, so building a URL
+ * only validates the parameters and appends them together with the segments, the base URL and the query string to a
+ * single buffer.</p>
  */
 public class URLTemplate {
-    private static final Pattern NUMERIC = Pattern.compile("^[0-9]*$");
-    private static final Pattern ALPHA_NUMERIC = Pattern.compile("^[a-zA-Z0-9!@#$%^&*()_+\\-]*$");
+    private static final String ALPHA_NUMERIC_SYMBOLS = "!@#$%^&*()_+-";
+    private static final char STRING_SLOT = 's';
+    private static final char BOOLEAN_SLOT = 'b';
+
     private final String template;
+    private final String[] segments;
+    private final char[] slots;
+    private final int segmentsLength;
 
     /**
      * Construct an URL Template object from path.
@@ -21,6 +29,38 @@ public class URLTemplate {
      */
     public URLTemplate(String template) {
         this.template = template;
+
+        List<String> segmentList = new ArrayList<>();
+        StringBuilder slotBuilder = new StringBuilder();
+        StringBuilder segment = new StringBuilder();
+        int length = template.length();
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+            if (c != '%' || i + 1 == length) {
+                segment.append(c);
+                continue;
+            }
+
+            char conversion = template.charAt(++i);
+            if (conversion == '%') {
+                segment.append('%');
+            } else if (conversion == 'n') {
+                segment.append(System.lineSeparator());
+            } else {
+                segmentList.add(segment.toString());
+                slotBuilder.append(Character.toLowerCase(conversion));
+                segment.setLength(0);
+            }
+        }
+        segmentList.add(segment.toString());
+
+        this.segments = segmentList.toArray(new String[0]);
+        this.slots = slotBuilder.toString().toCharArray();
+        int segmentsLength = 0;
+        for (String s : this.segments) {
+            segmentsLength += s.length();
+        }
+        this.segmentsLength = segmentsLength;
     }
 
     /**
@@ -31,17 +71,13 @@ public class URLTemplate {
      * @return URL
      */
     public URL build(String base, Object... values) {
-        for (Object value : values) {
-            String valueString = String.valueOf(value);
-            if (!NUMERIC.matcher(valueString).matches()) {
+        String[] strings = this.toStrings(values);
+        for (String valueString : strings) {
+            if (!isNumeric(valueString)) {
                 throw new BoxAPIException("An invalid path parameter passed in. It must be numeric.");
             }
         }
-        try {
-            return new URL(format(fullTemplate(base), values));
-        } catch (MalformedURLException e) {
-            throw new BoxAPIException(e.getMessage());
-        }
+        return this.toURL(base, null, strings);
     }
 
     /**
@@ -52,19 +88,13 @@ public class URLTemplate {
      * @return URL
      */
     public URL buildAlpha(String base, Object... values) {
-        for (Object value : values) {
-            String valueString = String.valueOf(value);
-            Boolean test = ALPHA_NUMERIC.matcher(valueString).matches();
-            if (!ALPHA_NUMERIC.matcher(valueString).matches()) {
+        String[] strings = this.toStrings(values);
+        for (String valueString : strings) {
+            if (!isAlphaNumeric(valueString)) {
                 throw new BoxAPIException("An invalid path parameter passed in. It must be alphanumeric.");
             }
         }
-        try {
-            return new URL(format(fullTemplate(base), values));
-        } catch (MalformedURLException e) {
-            throw new BoxAPIException(e.getMessage());
-        }
-
+        return this.toURL(base, null, strings);
     }
 
     /**
@@ -76,19 +106,13 @@ public class URLTemplate {
      * @return URL
      */
     public URL buildWithQuery(String base, String queryString, Object... values) {
-        for (Object value : values) {
-            String valueString = String.valueOf(value);
-            if (!NUMERIC.matcher(valueString).matches()) {
+        String[] strings = this.toStrings(values);
+        for (String valueString : strings) {
+            if (!isNumeric(valueString)) {
                 throw new BoxAPIException("An invalid path param passed in. It must be numeric.");
             }
         }
-        try {
-            String urlString = format(fullTemplate(base), values) + queryString;
-            return new URL(urlString);
-        } catch (MalformedURLException e) {
-            throw new BoxAPIException(e.getMessage());
-        }
-
+        return this.toURL(base, queryString, strings);
     }
 
     /**
@@ -100,22 +124,85 @@ public class URLTemplate {
      * @return URL
      */
     public URL buildAlphaWithQuery(String base, String queryString, Object... values) {
-        for (Object value : values) {
-            String valueString = String.valueOf(value);
-            if (!ALPHA_NUMERIC.matcher(valueString).matches()) {
+        String[] strings = this.toStrings(values);
+        for (String valueString : strings) {
+            if (!isAlphaNumeric(valueString)) {
                 throw new BoxAPIException("An invalid path param passed in. It must be alphanumeric.");
             }
         }
-        try {
-            String urlString = format(fullTemplate(base), values) + queryString;
-            return new URL(urlString);
-        } catch (MalformedURLException e) {
-            throw new BoxAPIException(e.getMessage());
+        return this.toURL(base, queryString, strings);
+    }
+
+    private static boolean isNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+        return true;
+    }
 
+    private static boolean isAlphaNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || ALPHA_NUMERIC_SYMBOLS.indexOf(c) >= 0;
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private String fullTemplate(String path) {
-        return path + this.template;
+    /**
+     * Converts the parameters to the strings that fill the slots of the template, in the same way that
+     * {@link String#format(String, Object...)} would for the "%s" and "%b" conversions.
+     */
+    private String[] toStrings(Object[] values) {
+        if (values.length < this.slots.length) {
+            throw new IllegalArgumentException("The URL template \"" + this.template + "\" needs "
+                + this.slots.length + " parameters but " + values.length + " were passed in.");
+        }
+
+        String[] strings = new String[this.slots.length];
+        for (int i = 0; i < strings.length; i++) {
+            Object value = values[i];
+            if (this.slots[i] == BOOLEAN_SLOT) {
+                strings[i] = String.valueOf(value != null && (!(value instanceof Boolean) || (Boolean) value));
+            } else if (this.slots[i] == STRING_SLOT) {
+                strings[i] = String.valueOf(value);
+            } else {
+                strings[i] = String.format("%" + this.slots[i], value);
+            }
+        }
+        return strings;
+    }
+
+    private URL toURL(String base, String queryString, String[] strings) {
+        int length = base.length() + this.segmentsLength;
+        if (queryString != null) {
+            length += queryString.length();
+        }
+        for (String s : strings) {
+            length += s.length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(base);
+        builder.append(this.segments[0]);
+        for (int i = 0; i < strings.length; i++) {
+            builder.append(strings[i]);
+            builder.append(this.segments[i + 1]);
+        }
+        if (queryString != null) {
+            builder.append(queryString);
+        }
+
+        try {
+            return new URL(builder.toString());
+        } catch (MalformedURLException e) {
+            throw new BoxAPIException(e.getMessage());
+        }
     }
 }
@@ -0,0 +1,193 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.eclipsesource.json.ParseException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A local record of a chunked upload session, used to resume the upload after the process that started it has stopped.
+ *
+ * <p>The journal holds the upload session as it was returned by Box, a description of the local file and of the
+ * destination it is uploaded to, and the parts that have been uploaded so far. It is rewritten atomically each time
+ * a part is added, so it can be read back after a crash at any point.</p>
+ */
+final class UploadSessionJournal {
+    private final Path path;
+    private final String target;
+    private final long fileSize;
+    private final long fileModified;
+    private final JsonObject session;
+    private final Map<Long, JsonObject> parts = new TreeMap<>();
+
+    /**
+     * Constructs a journal for a new upload session.
+     *
+     * @param path         the path of the journal file.
+     * @param target       a description of the destination of the upload.
+     * @param fileSize     the size of the local file.
+     * @param fileModified the last modified time of the local file, in milliseconds.
+     * @param session      the upload session as it was returned by Box.
+     */
+    UploadSessionJournal(Path path, String target, long fileSize, long fileModified, JsonObject session) {
+        this.path = path;
+        this.target = target;
+        this.fileSize = fileSize;
+        this.fileModified = fileModified;
+        this.session = session;
+    }
+
+    /**
+     * Reads a journal file.
+     *
+     * @param path the path of the journal file.
+     * @return the journal, or null if the file doesn't exist or can't be parsed.
+     * @throws IOException if the file exists but can't be read.
+     */
+    static UploadSessionJournal read(Path path) throws IOException {
+        String json = AtomicFiles.read(path);
+        if (json == null) {
+            return null;
+        }
+
+        JsonValue value;
+        try {
+            value = Json.parse(json);
+        } catch (ParseException e) {
+            return null;
+        }
+        if (!value.isObject()) {
+            return null;
+        }
+        JsonObject jsonObject = value.asObject();
+        JsonValue target = jsonObject.get("target");
+        JsonValue fileSize = jsonObject.get("file_size");
+        JsonValue fileModified = jsonObject.get("file_modified");
+        JsonValue session = jsonObject.get("session");
+        JsonValue parts = jsonObject.get("parts");
+        if (target == null || !target.isString() || fileSize == null || !fileSize.isNumber()
+            || fileModified == null || !fileModified.isNumber() || session == null || !session.isObject()
+            || parts == null || !parts.isArray()) {
+            return null;
+        }
+
+        UploadSessionJournal journal = new UploadSessionJournal(path, target.asString(), fileSize.asLong(),
+            fileModified.asLong(), session.asObject());
+        for (JsonValue part : parts.asArray()) {
+            JsonValue offset = part.isObject() ? part.asObject().get("offset") : null;
+            if (offset == null || !offset.isNumber()) {
+                return null;
+            }
+            journal.parts.put(offset.asLong(), part.asObject());
+        }
+        return journal;
+    }
+
+    /**
+     * Determines whether this journal records an upload of the same local file to the same destination.
+     *
+     * @param otherTarget       a description of the destination of the upload.
+     * @param otherFileSize     the size of the local file.
+     * @param otherFileModified the last modified time of the local file, in milliseconds.
+     * @return true if the upload recorded by this journal can be resumed.
+     */
+    boolean matches(String otherTarget, long otherFileSize, long otherFileModified) {
+        return this.target.equals(otherTarget) && this.fileSize == otherFileSize
+            && this.fileModified == otherFileModified;
+    }
+
+    /**
+     * Gets the upload session as it was returned by Box.
+     *
+     * @return the JSON object of the upload session.
+     */
+    JsonObject getSession() {
+        return this.session;
+    }
+
+    /**
+     * Gets the uploaded part that starts at an offset.
+     *
+     * @param offset the offset of the part.
+     * @return the part, or null if no part starting at the offset has been uploaded.
+     */
+    synchronized BoxFileUploadSessionPart getPart(long offset) {
+        JsonObject part = this.parts.get(offset);
+        return part == null ? null : new BoxFileUploadSessionPart(part);
+    }
+
+    /**
+     * Gets every uploaded part, ordered by offset.
+     *
+     * @return the uploaded parts.
+     */
+    synchronized List<BoxFileUploadSessionPart> getParts() {
+        List<BoxFileUploadSessionPart> result = new ArrayList<>(this.parts.size());
+        for (JsonObject part : this.parts.values()) {
+            result.add(new BoxFileUploadSessionPart(part));
+        }
+        return result;
+    }
+
+    /**
+     * Records an uploaded part and writes the journal.
+     *
+     * @param part the uploaded part.
+     * @throws IOException if the journal can't be written.
+     */
+    synchronized void addPart(BoxFileUploadSessionPart part) throws IOException {
+        this.parts.put(part.getOffset(), Json.parse(part.getJson()).asObject());
+        this.write();
+    }
+
+    /**
+     * Replaces the recorded parts with the parts that Box reports for the upload session, and writes the journal.
+     *
+     * @param uploadedParts the parts listed by the upload session.
+     * @throws IOException if the journal can't be written.
+     */
+    synchronized void reconcile(Iterable<BoxFileUploadSessionPart> uploadedParts) throws IOException {
+        this.parts.clear();
+        for (BoxFileUploadSessionPart part : uploadedParts) {
+            this.parts.put(part.getOffset(), Json.parse(part.getJson()).asObject());
+        }
+        this.write();
+    }
+
+    /**
+     * Writes the journal file, replacing its previous contents atomically where the file system allows it.
+     *
+     * @throws IOException if the journal can't be written.
+     */
+    synchronized void write() throws IOException {
+        JsonArray partArray = new JsonArray();
+        for (JsonObject part : this.parts.values()) {
+            partArray.add(part);
+        }
+        JsonObject jsonObject = new JsonObject()
+            .add("target", this.target)
+            .add("file_size", this.fileSize)
+            .add("file_modified", this.fileModified)
+            .add("session", this.session)
+            .add("parts", partArray);
+
+        AtomicFiles.write(this.path, jsonObject.toString());
+    }
+
+    /**
+     * Deletes the journal file once the upload has been committed.
+     *
+     * @throws IOException if the journal can't be deleted.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+}
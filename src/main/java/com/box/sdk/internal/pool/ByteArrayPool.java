@@ -0,0 +1,81 @@
+package com.box.sdk.internal.pool;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Reusable thread-safe pool of fixed-size byte arrays, used as transfer buffers.
+ * <p>
+ * The pool holds at most a fixed number of idle buffers. When it is empty a new buffer is allocated, and buffers
+ * released into a full pool are left to the garbage collector, so acquiring never blocks.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ *  {@code
+ *      byte[] buffer = bufferPool.acquire();
+ *      try {
+ *          ...
+ *      } finally {
+ *          bufferPool.release(buffer);
+ *      }
+ *  }
+ * </pre>
+ */
+public class ByteArrayPool {
+
+    /**
+     * Size of every buffer handed out by this pool.
+     */
+    private final int bufferSize;
+
+    /**
+     * Idle buffers.
+     */
+    private final Queue<byte[]> pool;
+
+    /**
+     * Constructor.
+     *
+     * @param bufferSize size of every buffer handed out by this pool
+     * @param maxIdle    maximum number of idle buffers kept by this pool
+     */
+    public ByteArrayPool(int bufferSize, int maxIdle) {
+        this.bufferSize = bufferSize;
+        this.pool = new ArrayBlockingQueue<byte[]>(maxIdle);
+    }
+
+    /**
+     * @return size of every buffer handed out by this pool
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Acquires reusable buffer, has to be also released!
+     *
+     * @return buffer of {@link #getBufferSize()} bytes, its content is undefined
+     * @see #release(byte[])
+     */
+    public byte[] acquire() {
+        byte[] result = this.pool.poll();
+        if (result == null) {
+            result = new byte[this.bufferSize];
+        }
+        return result;
+    }
+
+    /**
+     * Releases a previously acquired buffer.
+     *
+     * @param buffer for release
+     * @see #acquire()
+     */
+    public void release(byte[] buffer) {
+        if (buffer.length == this.bufferSize) {
+            this.pool.offer(buffer);
+        }
+    }
+
+}
@@ -33,6 +33,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -973,6 +975,36 @@ public class BoxAPIConnectionTest {
                 )));
     }
 
+    @Test
+    public void refreshesTheTokenInTheBackgroundBeforeItExpires() throws InterruptedException {
+        BoxAPIConnection api = new BoxAPIConnection(
+            "some_client_id", "some_client_secret", "old_access_token", "some_refresh_token"
+        );
+        // The token expires in three minutes, so it doesn't need to be refreshed yet.
+        api.setLastRefresh(System.currentTimeMillis());
+        api.setExpires(180000);
+        api.setBackgroundRefreshWindow(300000);
+        api.setRequestInterceptor(
+            request -> new BoxAPIConnectionTest.AuthenticationResponse("new_access_token", "new_refresh_token", "4245")
+        );
+        final CountDownLatch refreshed = new CountDownLatch(1);
+        api.addListener(new BoxAPIConnectionListener() {
+            @Override
+            public void onRefresh(BoxAPIConnection api) {
+                refreshed.countDown();
+            }
+
+            @Override
+            public void onError(BoxAPIConnection api, BoxAPIException error) {
+            }
+        });
+
+        assertThat(api.getAccessToken(), is("old_access_token"));
+        assertThat(refreshed.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(api.getAccessToken(), is("new_access_token"));
+        assertThat(api.getRefreshToken(), is("new_refresh_token"));
+    }
+
     private static final class AuthenticationResponse extends BoxJSONResponse {
         private final String accessToken;
         private final String refreshToken;
@@ -1,22 +1,43 @@
 package com.box.sdk;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.lang.String.format;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import com.eclipsesource.json.WriterConfig;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.Proxy;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -155,6 +176,169 @@ public class BoxAPIRequestTest {
         assertEquals("67890", headerValue);
     }
 
+    @Test
+    public void requestOpensConnectionsThroughTheConfiguredTransport() throws MalformedURLException {
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        final AtomicInteger openedConnections = new AtomicInteger();
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setHttpTransport(new HttpTransport() {
+            @Override
+            public HttpURLConnection openConnection(URL url, Proxy proxy) throws IOException {
+                openedConnections.incrementAndGet();
+                return DefaultHttpTransport.INSTANCE.openConnection(url, proxy);
+            }
+        });
+
+        BoxAPIRequest request = new BoxAPIRequest(api, boxMockUrl(), "GET");
+        request.send();
+
+        assertEquals(1, openedConnections.get());
+        verify(1, getRequestedFor(urlEqualTo("/")));
+    }
+
+    @Test
+    public void sendAsyncCompletesWithTheResponse() throws MalformedURLException {
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        BoxAPIConnection api = new BoxAPIConnection("");
+
+        BoxAPIRequest request = new BoxAPIRequest(api, boxMockUrl(), "GET");
+        BoxAPIResponse response = request.sendAsync().join();
+
+        assertEquals(200, response.getResponseCode());
+    }
+
+    @Test
+    public void sendAsyncRetriesTheNumberOfTimesConfiguredInTheAPIConnection() throws MalformedURLException {
+        final int expectedNumRetryAttempts = 2;
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(500).withHeader("Retry-After", "0")));
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setMaxRetryAttempts(expectedNumRetryAttempts);
+
+        BoxAPIRequest request = new BoxAPIRequest(api, boxMockUrl(), "GET");
+
+        try {
+            request.sendAsync().join();
+            fail("Exception should have been thrown");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof BoxAPIException);
+            assertEquals(500, ((BoxAPIException) e.getCause()).getResponseCode());
+            verify(expectedNumRetryAttempts + 1, getRequestedFor(urlEqualTo("/")));
+        }
+    }
+
+    @Test
+    public void requestSendsByteArrayBodyAndReportsProgressPerBuffer() throws MalformedURLException {
+        stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        byte[] body = new byte[BoxAPIRequest.BODY_BUFFER_POOL.getBufferSize() * 2 + 1];
+        Arrays.fill(body, (byte) 'a');
+        final List<Long> progress = new ArrayList<>();
+
+        BoxAPIRequest request = new BoxAPIRequest(boxMockUrl(), "POST");
+        request.setBody(body);
+        request.send((numBytes, totalBytes) -> progress.add(numBytes));
+
+        verify(postRequestedFor(urlEqualTo("/"))
+            .withHeader("Content-Length", equalTo(String.valueOf(body.length)))
+            .withRequestBody(equalTo(new String(body, StandardCharsets.UTF_8))));
+        assertEquals(3, progress.size());
+        assertEquals(Long.valueOf(body.length), progress.get(2));
+    }
+
+    @Test
+    public void requestSendsOnlyTheGivenRegionOfAByteArrayBody() throws MalformedURLException {
+        stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        byte[] body = "xxpartxx".getBytes(StandardCharsets.UTF_8);
+
+        BoxAPIRequest request = new BoxAPIRequest(boxMockUrl(), "POST");
+        request.setBody(body, 2, 4);
+        request.send();
+
+        verify(postRequestedFor(urlEqualTo("/"))
+            .withHeader("Content-Length", equalTo("4"))
+            .withRequestBody(equalTo("part")));
+    }
+
+    @Test
+    public void requestSendsTheRemainingBytesOfADirectByteBufferBodyOnEveryAttempt() throws MalformedURLException {
+        stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(500).withHeader("Retry-After", "0")));
+        ByteBuffer body = ByteBuffer.allocateDirect(8);
+        body.put("xxpartxx".getBytes(StandardCharsets.UTF_8));
+        body.position(2).limit(6);
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setMaxRetryAttempts(1);
+
+        BoxAPIRequest request = new BoxAPIRequest(api, boxMockUrl(), "POST");
+        request.setBody(body);
+        try {
+            request.send();
+            fail("Exception should have been thrown");
+        } catch (BoxAPIException e) {
+            verify(2, postRequestedFor(urlEqualTo("/")).withRequestBody(equalTo("part")));
+            assertEquals(2, body.position());
+        }
+    }
+
+    @Test
+    public void jsonRequestWritesAJsonObjectBodyOnEveryAttempt() throws MalformedURLException {
+        stubFor(post(urlEqualTo("/")).willReturn(aResponse().withStatus(500).withHeader("Retry-After", "0")));
+        JsonObject body = new JsonObject()
+            .add("name", "r\u00e9sum\u00e9 \u2603 \ud83d\ude00")
+            .add("size", 3);
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setMaxRetryAttempts(1);
+
+        BoxJSONRequest request = new BoxJSONRequest(api, boxMockUrl(), "POST");
+        request.setBody(body);
+        try {
+            request.send();
+            fail("Exception should have been thrown");
+        } catch (BoxAPIException e) {
+            verify(2, postRequestedFor(urlEqualTo("/"))
+                .withHeader("Content-Length", equalTo(
+                    Integer.toString(body.toString().getBytes(StandardCharsets.UTF_8).length)))
+                .withRequestBody(equalTo(body.toString())));
+            assertEquals(body, request.getBodyAsJsonObject());
+        }
+    }
+
+    @Test
+    public void jsonRequestSerializesAJsonObjectBodyWithItsCodec() throws IOException {
+        JsonObject body = new JsonObject()
+            .add("name", "file.txt")
+            .add("size", 3);
+        BoxGlobalSettings.setJSONCodec(new BoxJSONCodec() {
+            @Override
+            public JsonValue read(Reader reader) throws IOException {
+                return Json.parse(reader);
+            }
+
+            @Override
+            public JsonValue read(String json) {
+                return Json.parse(json);
+            }
+
+            @Override
+            public void write(JsonValue value, Writer writer) throws IOException {
+                value.writeTo(writer, WriterConfig.PRETTY_PRINT);
+            }
+        });
+
+        BoxJSONRequest request;
+        try {
+            request = new BoxJSONRequest(new BoxAPIConnection(""), boxMockUrl(), "POST");
+            request.setBody(body);
+        } finally {
+            BoxGlobalSettings.setJSONCodec(null);
+        }
+
+        String expected = body.toString(WriterConfig.PRETTY_PRINT);
+        InputStream bodyStream = request.getBody();
+        byte[] bytes = new byte[bodyStream.available()];
+        assertEquals(bytes.length, bodyStream.read(bytes));
+        assertEquals(expected, new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(expected, request.bodyToString());
+    }
+
     private URL boxMockUrl() throws MalformedURLException {
         return new URL(format("http://localhost:%d/", wireMockRule.port()));
     }
@@ -3,6 +3,7 @@ package com.box.sdk;
 import static org.junit.Assert.assertEquals;
 
 import java.text.ParseException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
@@ -66,4 +67,38 @@ public class BoxDateFormatTest {
 
         assertEquals(formattedDate, "2020-05-14");
     }
+
+    @Test
+    public void testParseWorksWithMilliseconds() throws ParseException {
+
+        Date date = BoxDateFormat.parse("2019-04-06T22:58:49.123-07:00");
+        Date expectedDate = new Date(1554616729123L);
+        assertEquals(expectedDate, date);
+    }
+
+    @Test
+    public void testParseWorksWithHalfHourOffsetTimezone() throws ParseException {
+
+        assertEquals(1554571729000L, BoxDateFormat.parseEpochMillis("2019-04-06T22:58:49+05:30"));
+        assertEquals(1554571729000L, BoxDateFormat.parseEpochMillis("2019-04-06T22:58:49+0530"));
+    }
+
+    @Test
+    public void testParseInstant() throws ParseException {
+
+        Instant instant = BoxDateFormat.parseInstant("2019-04-06T22:58:49Z");
+        assertEquals(Instant.ofEpochMilli(1554591529000L), instant);
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParseFailsWithInvalidDate() throws ParseException {
+
+        BoxDateFormat.parse("2019-04-06");
+    }
+
+    @Test
+    public void testFormatDropsMilliseconds() {
+        assertEquals("2019-04-06T22:57:01Z", BoxDateFormat.formatEpochMillis(1554591421999L));
+        assertEquals("1969-12-31T23:59:59Z", BoxDateFormat.formatEpochMillis(-1L));
+    }
 }
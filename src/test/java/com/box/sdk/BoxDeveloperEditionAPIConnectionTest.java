@@ -16,6 +16,18 @@ import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.bouncycastle.util.encoders.Base64;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.consumer.JwtConsumer;
@@ -132,10 +144,151 @@ public class BoxDeveloperEditionAPIConnectionTest {
         Assert.assertEquals(accessToken, api.getAccessToken());
     }
 
+    @Test
+    public void decryptsThePrivateKeyOnceForTheSamePreferences() {
+        JWTEncryptionPreferences prefs = this.getEncryptionPreferences();
+        String key = prefs.getPrivateKey();
+        String password = prefs.getPrivateKeyPassword();
+
+        PrivateKey decryptedKey = prefs.getDecryptedPrivateKey(key, password);
+
+        Assert.assertNotNull(decryptedKey);
+        Assert.assertSame(decryptedKey, prefs.getDecryptedPrivateKey(key, password));
+    }
+
+    @Test
+    public void connectionPoolSharesConnectionsAndEvictsTheLeastRecentlyUsed() {
+        final AtomicInteger cacheReads = new AtomicInteger();
+        IAccessTokenCache accessTokenCache = new IAccessTokenCache() {
+            @Override
+            public String get(String key) {
+                cacheReads.incrementAndGet();
+                return "{\"accessToken\": \"token\", \"lastRefresh\": " + System.currentTimeMillis()
+                    + ", \"expires\": 3600000}";
+            }
+
+            @Override
+            public void put(String key, String value) {
+            }
+        };
+        BoxDeveloperEditionConnectionPool pool = new BoxDeveloperEditionConnectionPool("foo", "bar",
+            this.getEncryptionPreferences(), accessTokenCache, 2);
+
+        BoxDeveloperEditionAPIConnection first = pool.getUserConnection("1");
+        Assert.assertSame(first, pool.getUserConnection("1"));
+        pool.getUserConnection("2");
+        pool.getUserConnection("1");
+        pool.getUserConnection("3");
+
+        Assert.assertEquals(2, pool.size());
+        Assert.assertSame(first, pool.getUserConnection("1"));
+        Assert.assertEquals(3, cacheReads.get());
+        pool.getUserConnection("2");
+        Assert.assertEquals(4, cacheReads.get());
+    }
+
+    @Test
+    public void connectionPoolCreatesOneConnectionForConcurrentCallers() throws Exception {
+        final AtomicInteger cacheReads = new AtomicInteger();
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch finishRead = new CountDownLatch(1);
+        IAccessTokenCache accessTokenCache = new IAccessTokenCache() {
+            @Override
+            public String get(String key) {
+                cacheReads.incrementAndGet();
+                readStarted.countDown();
+                try {
+                    finishRead.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis(), 3600000L);
+            }
+
+            @Override
+            public void put(String key, String value) {
+            }
+        };
+        final BoxDeveloperEditionConnectionPool pool = new BoxDeveloperEditionConnectionPool("foo", "bar",
+            this.getEncryptionPreferences(), accessTokenCache, 10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BoxDeveloperEditionAPIConnection>> connections = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                connections.add(executor.submit(() -> pool.getUserConnection("1")));
+            }
+            Assert.assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            // Gives the other callers time to find the connection being created before it's finished.
+            Thread.sleep(100);
+            finishRead.countDown();
+
+            BoxDeveloperEditionAPIConnection first = connections.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<BoxDeveloperEditionAPIConnection> connection : connections) {
+                Assert.assertSame(first, connection.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, cacheReads.get());
+        Assert.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void connectionPoolPrefetchesConnectionsWithOneCacheRead() {
+        final AtomicInteger singleReads = new AtomicInteger();
+        final AtomicInteger bulkReads = new AtomicInteger();
+        IAccessTokenCache accessTokenCache = new IAccessTokenCache() {
+            @Override
+            public String get(String key) {
+                singleReads.incrementAndGet();
+                return ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis(), 3600000L);
+            }
+
+            @Override
+            public Map<String, String> getAll(Collection<String> keys) {
+                bulkReads.incrementAndGet();
+                Map<String, String> values = new HashMap<>();
+                for (String key : keys) {
+                    values.put(key, ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis(), 3600000L));
+                }
+                return values;
+            }
+
+            @Override
+            public void put(String key, String value) {
+            }
+        };
+        BoxDeveloperEditionConnectionPool pool = new BoxDeveloperEditionConnectionPool("foo", "bar",
+            this.getEncryptionPreferences(), accessTokenCache, 10, 2);
+
+        pool.prefetchUserConnections("1", "2", "3");
+
+        // The prefetched connections are waited for if they aren't pooled yet.
+        Assert.assertEquals("token", pool.getUserConnection("1").getAccessToken());
+        Assert.assertEquals("token", pool.getUserConnection("2").getAccessToken());
+        Assert.assertEquals("token", pool.getUserConnection("3").getAccessToken());
+        Assert.assertEquals(3, pool.size());
+        Assert.assertEquals(1, bulkReads.get());
+        Assert.assertEquals(0, singleReads.get());
+    }
+
     private BoxDeveloperEditionAPIConnection getBoxDeveloperEditionAPIConnection(final String tokenPath) {
         final String baseURL = "http://localhost:" + wireMockRule.port();
         final int expectedNumRetryAttempts = 2;
 
+        JWTEncryptionPreferences prefs = this.getEncryptionPreferences();
+
+        BoxDeveloperEditionAPIConnection api = new BoxDeveloperEditionAPIConnection("12345",
+            DeveloperEditionEntityType.USER, "foo", "bar", prefs, null);
+        api.setBaseURL(baseURL + "/");
+        api.setTokenURL(baseURL + tokenPath);
+        api.setMaxRetryAttempts(expectedNumRetryAttempts);
+
+        return api;
+    }
+
+    private JWTEncryptionPreferences getEncryptionPreferences() {
         JWTEncryptionPreferences prefs = new JWTEncryptionPreferences();
         prefs.setEncryptionAlgorithm(EncryptionAlgorithm.RSA_SHA_256);
         // @NOTE(mwiller) 2018-01-16: These are freshly-generated keys which are not used for a real Box
@@ -168,14 +321,7 @@ public class BoxDeveloperEditionAPIConnectionTest {
         prefs.setPrivateKeyPassword("testkey");
         prefs.setPublicKeyID("abcdefg");
 
-
-        BoxDeveloperEditionAPIConnection api = new BoxDeveloperEditionAPIConnection("12345",
-            DeveloperEditionEntityType.USER, "foo", "bar", prefs, null);
-        api.setBaseURL(baseURL + "/");
-        api.setTokenURL(baseURL + tokenPath);
-        api.setMaxRetryAttempts(expectedNumRetryAttempts);
-
-        return api;
+        return prefs;
     }
 
     private void mockFirstResponse(String tokenPath) {
@@ -6,10 +6,14 @@ import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.box.sdk.sharedlink.BoxSharedLinkRequest;
 import com.eclipsesource.json.Json;
@@ -22,12 +26,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Rule;
@@ -183,6 +191,64 @@ public class BoxFileTest {
         assertEquals("12345", fileInfo.getID());
     }
 
+    @Test
+    public void lazyInfoDecodingOnlyDecodesTheFieldsThatAreRead() throws IOException, ParseException {
+        final String fileID = "12345";
+        final String filesURL = "/2.0/files/" + fileID;
+
+        String result = TestConfig.getFixture("BoxFile/GetFileInfoCausesDeserializationException");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(filesURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        this.api.setLazyInfoDecoding(true);
+        BoxFile.Info fileInfo = new BoxFile(this.api, fileID).getInfo();
+        assertEquals("12345", fileInfo.getID());
+        assertEquals("Example.pdf", fileInfo.getName());
+        assertEquals(BoxDateFormat.parse("2018-04-24T17:00:44-07:00"), fileInfo.getCreatedAt());
+        assertEquals("1111", fileInfo.getCreatedBy().getID());
+
+        try {
+            fileInfo.getEtag();
+            fail("Expected the malformed etag to be reported when it's read.");
+        } catch (BoxDeserializationException e) {
+            assertThat(e.getMessage(), containsString("etag"));
+        }
+    }
+
+    @Test
+    public void updateInfoAfterTurningOffLazyInfoDecodingKeepsTheNewValues() throws IOException {
+        final String fileID = "12345";
+        final String fileURL = "/2.0/files/" + fileID;
+        final String newName = "Renamed.pdf";
+
+        String getResult = TestConfig.getFixture("BoxFile/GetFileInfo200");
+        String putResult = Json.parse(getResult).asObject().set("name", newName).toString();
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(fileURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(getResult)));
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(fileURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(putResult)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        this.api.setLazyInfoDecoding(true);
+        BoxFile.Info info = file.getInfo();
+        assertEquals("12345", info.getID());
+
+        this.api.setLazyInfoDecoding(false);
+        info.setDescription("Renamed");
+        file.updateInfo(info);
+
+        assertEquals(newName, info.getName());
+        assertEquals("0", info.getEtag());
+    }
+
     @Test
     public void testRemoveSharedLink() throws IOException {
         final String fileID = "12345";
@@ -486,6 +552,102 @@ public class BoxFileTest {
         assertEquals(scope, metadata.getScope());
     }
 
+    @Test
+    public void testGetInfoAsyncCompletesWithTheFileInfo() throws IOException {
+        final String fileID = "12345";
+        final String fileURL = "/2.0/files/" + fileID;
+
+        String result = TestConfig.getFixture("BoxFile/GetFileInfo200");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(fileURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        BoxFile.Info info = file.getInfoAsync().join();
+
+        assertEquals(fileID, info.getID());
+        assertEquals("Example.pdf", info.getName());
+    }
+
+    @Test
+    public void testUpdateInfoAsyncUpdatesTheInfoAndSendsCorrectJson() throws IOException {
+        final String fileID = "12345";
+        final String fileURL = "/2.0/files/" + fileID;
+        final String newFileName = "New File Name";
+        JsonObject updateObject = new JsonObject()
+            .add("name", newFileName);
+
+        String result = Json.parse(TestConfig.getFixture("BoxFile/GetFileInfo200")).asObject()
+            .set("name", newFileName)
+            .toString();
+
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(fileURL))
+            .withRequestBody(WireMock.equalToJson(updateObject.toString()))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        BoxFile.Info info = file.new Info();
+        info.setName(newFileName);
+        BoxFile.Info updatedInfo = file.updateInfoAsync(info).join();
+
+        assertSame(info, updatedInfo);
+        assertEquals(fileID, info.getID());
+        assertEquals(newFileName, info.getName());
+    }
+
+    @Test
+    public void testUpdateMetadataAsyncCompletesWithTheMetadata() throws IOException {
+        final String fileID = "12345";
+        final String metadataURL = "/2.0/files/" + fileID + "/metadata/enterprise/testtemplate";
+        JsonArray patch = new JsonArray()
+            .add(new JsonObject()
+                .add("op", "add")
+                .add("path", "/test1")
+                .add("value", "text"));
+
+        String result = TestConfig.getFixture("BoxFile/UpdateMetadataOnFile200");
+
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(metadataURL))
+            .withRequestBody(WireMock.equalToJson(patch.toString()))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json-patch+json")
+                .withBody(result)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        Metadata metadata = new Metadata("enterprise", "testtemplate").add("/test1", "text");
+        Metadata updatedMetadata = file.updateMetadataAsync(metadata).join();
+
+        assertEquals("text", updatedMetadata.getString("/test1"));
+        assertEquals("file_12345", updatedMetadata.getParentID());
+    }
+
+    @Test
+    public void testGetMetadataAsyncCompletesExceptionallyWhenTheRequestFails() throws IOException {
+        final String fileID = "12345";
+        final String metadataURL = "/2.0/files/" + fileID + "/metadata/global/properties";
+
+        String result = TestConfig.getFixture("BoxException/BoxResponseException404");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(metadataURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)
+                .withStatus(404)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        try {
+            file.getMetadataAsync("properties", "global").join();
+            fail("Expected the failed request to complete the future exceptionally.");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(BoxAPIResponseException.class));
+            assertEquals(404, ((BoxAPIResponseException) e.getCause()).getResponseCode());
+        }
+    }
+
     @Test
     public void testUploadNewVersionReturnsCorrectInfo() throws IOException {
         String fileID = "11111";
@@ -1100,6 +1262,148 @@ public class BoxFileTest {
         file.updateInfo(info);
     }
 
+    @Test
+    public void downloadLargeFileWritesEachRangeAtItsOffsetAndVerifiesSha1() throws IOException, InterruptedException {
+        final String fileURL = "/2.0/files/12345";
+        final String contentURL = "/2.0/files/12345/content";
+        final String contents = "abcdefghij";
+        JsonObject fileInfo = new JsonObject()
+            .add("type", "file")
+            .add("id", "12345")
+            .add("size", contents.length())
+            .add("sha1", "d68c19a0a345b7eab78d5e11e991c026ec60db63");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(fileURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(fileInfo.toString())));
+        String[][] ranges = {{"bytes=0-3", "abcd"}, {"bytes=4-7", "efgh"}, {"bytes=8-9", "ij"}};
+        for (String[] range : ranges) {
+            wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(contentURL))
+                .withHeader("Range", WireMock.equalTo(range[0]))
+                .willReturn(WireMock.aResponse()
+                    .withStatus(206)
+                    .withBody(range[1])));
+        }
+
+        Path destination = Files.createTempFile("box-download", ".txt");
+        try {
+            BoxFile file = new BoxFile(this.api, "12345");
+            new LargeFileDownload(2, 4, 1, TimeUnit.MINUTES).download(file, destination);
+
+            assertEquals(contents, new String(Files.readAllBytes(destination), UTF_8));
+        } finally {
+            Files.delete(destination);
+        }
+    }
+
+    @Test
+    public void downloadResumableOnlyRequestsTheBytesMissingFromTheCheckpoint() throws IOException {
+        final String fileURL = "/2.0/files/12345";
+        final String contentURL = "/2.0/files/12345/content";
+        final String sha1 = "d68c19a0a345b7eab78d5e11e991c026ec60db63";
+        JsonObject fileInfo = new JsonObject()
+            .add("type", "file")
+            .add("id", "12345")
+            .add("etag", "1")
+            .add("size", 10)
+            .add("sha1", sha1);
+        JsonObject checkpoint = new JsonObject()
+            .add("file_id", "12345")
+            .add("etag", "1")
+            .add("sha1", sha1)
+            .add("size", 10)
+            .add("completed_ranges", new JsonArray().add(new JsonArray().add(0).add(3)));
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(fileURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(fileInfo.toString())));
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(contentURL))
+            .withHeader("Range", WireMock.equalTo("bytes=4-9"))
+            .willReturn(WireMock.aResponse()
+                .withStatus(206)
+                .withBody("efghij")));
+
+        Path destination = Files.createTempFile("box-download", ".txt");
+        Path checkpointPath = ResumableDownload.getCheckpointPath(destination);
+        try {
+            Files.write(destination, "abcd".getBytes(UTF_8));
+            Files.write(checkpointPath, checkpoint.toString().getBytes(UTF_8));
+
+            new BoxFile(this.api, "12345").downloadResumable(destination);
+
+            assertEquals("abcdefghij", new String(Files.readAllBytes(destination), UTF_8));
+            assertFalse(Files.exists(checkpointPath));
+            wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo(contentURL)));
+        } finally {
+            Files.deleteIfExists(checkpointPath);
+            Files.delete(destination);
+        }
+    }
+
+    @Test
+    public void uploadLargeFileResumableOnlyUploadsThePartsMissingFromTheSession() throws IOException,
+        InterruptedException {
+        final String sessionURL = "/2.0/files/upload_sessions/D5E3F8ADA11A38F0A66AD0B64AACA658";
+        String baseURL = "http://localhost:" + wireMockRule.port() + sessionURL;
+        JsonObject session = new JsonObject()
+            .add("total_parts", 2)
+            .add("part_size", 5)
+            .add("session_endpoints", new JsonObject()
+                .add("list_parts", baseURL + "/parts")
+                .add("commit", baseURL + "/commit")
+                .add("upload_part", baseURL)
+                .add("status", baseURL)
+                .add("abort", baseURL))
+            .add("session_expires_at", "2999-11-09T21:59:16Z")
+            .add("id", "D5E3F8ADA11A38F0A66AD0B64AACA658")
+            .add("type", "upload_session")
+            .add("num_parts_processed", 1);
+        JsonObject partOne = new JsonObject()
+            .add("part_id", "CFEB5BA9")
+            .add("offset", 0)
+            .add("size", 5);
+        JsonObject partTwo = new JsonObject()
+            .add("part_id", "AHDJNA9")
+            .add("offset", 5)
+            .add("size", 5);
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(sessionURL + "/parts"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(new JsonObject().add("entries", new JsonArray().add(partOne)).toString())));
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(sessionURL))
+            .withHeader("Content-Range", WireMock.equalTo("bytes 5-9/10"))
+            .withRequestBody(WireMock.equalTo("bbbbb"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(new JsonObject().add("part", partTwo).toString())));
+        wireMockRule.stubFor(WireMock.post(WireMock.urlPathEqualTo(sessionURL + "/commit"))
+            .withRequestBody(WireMock.containing(new JsonArray().add(partOne).add(partTwo).toString()))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(TestConfig.getFixture("BoxFile/CommitUpload201"))));
+
+        Path source = Files.createTempFile("box-upload", ".txt");
+        Path journal = Files.createTempFile("box-upload", ".journal");
+        try {
+            Files.write(source, "aaaaabbbbb".getBytes(UTF_8));
+            new UploadSessionJournal(journal, "http://localhost:" + wireMockRule.port()
+                + "/2.0/files/12345/upload_sessions", 10, Files.getLastModifiedTime(source).toMillis(), session)
+                .write();
+
+            BoxFile.Info uploadedFile = new BoxFile(this.api, "12345").uploadLargeFileResumable(source, journal);
+
+            assertEquals("1111111", uploadedFile.getID());
+            assertFalse(Files.exists(journal));
+            wireMockRule.verify(1, WireMock.putRequestedFor(WireMock.urlPathEqualTo(sessionURL)));
+        } finally {
+            Files.deleteIfExists(journal);
+            Files.delete(source);
+        }
+    }
+
     /**
      * Fake stream class used in testing in uploadLargeFile() if part size is populated correctly.
      */
@@ -6,10 +6,14 @@ import static com.box.sdk.PagingParameters.marker;
 import static com.box.sdk.SortParameters.ascending;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -23,12 +27,15 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.CoreMatchers;
@@ -263,6 +270,49 @@ public class BoxFolderTest {
         assertEquals(1491613088000L, uploadedFile.getContentModifiedAt().getTime());
     }
 
+    @Test
+    public void testChunkedUploadOfLocalFileUploadsEveryMappedPart() throws IOException, InterruptedException {
+        final String preflightURL = "/2.0/files/content";
+        final String sessionURL = "/2.0/files/upload_sessions";
+        final String uploadURL = "/2.0/files/upload_sessions/D5E3F8ADA11A38F0A66AD0B64AACA658";
+        final String commitURL = "/2.0/files/upload_sessions/D5E3F8ADA11A38F0A66AD0B64AACA658/commit";
+
+        wireMockRule.stubFor(WireMock.options(WireMock.urlPathEqualTo(preflightURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withStatus(200)
+                .withBody(TestConfig.getFixture("BoxFile/CanUploadFile200"))));
+        wireMockRule.stubFor(WireMock.post(WireMock.urlPathEqualTo(sessionURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(TestConfig.getFixture("BoxFile/CreateUploadSession201", wireMockRule.port()))));
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(uploadURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(TestConfig.getFixture("BoxFile/UploadPartOne200"))));
+        wireMockRule.stubFor(WireMock.post(WireMock.urlPathEqualTo(commitURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(TestConfig.getFixture("BoxFile/CommitUploadWithAttributes201"))));
+
+        // With one connection at most three parts are in flight, so mapping the six parts has to wait for uploads.
+        Path file = Files.createTempFile("box-upload", ".txt");
+        try {
+            Files.write(file, "aaaaabbbbbcccccdddddeeeeefffff".getBytes(UTF_8));
+
+            BoxFolder folder = new BoxFolder(this.api, "12345");
+            BoxFile.Info uploadedFile = folder.uploadLargeFile(file, "testfile.txt", 1, 60, TimeUnit.SECONDS, null);
+
+            assertEquals("1111111", uploadedFile.getID());
+            wireMockRule.verify(6, WireMock.putRequestedFor(WireMock.urlPathEqualTo(uploadURL)));
+            wireMockRule.verify(WireMock.putRequestedFor(WireMock.urlPathEqualTo(uploadURL))
+                .withHeader("Content-Range", WireMock.equalTo("bytes 25-29/30"))
+                .withRequestBody(WireMock.equalTo("fffff")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @Test
     public void testChunkedUploadWith500Error() throws IOException, InterruptedException {
         String javaVersion = System.getProperty("java.version");
@@ -836,6 +886,94 @@ public class BoxFolderTest {
         assertEquals(parentID, metadata.getParentID());
     }
 
+    @Test
+    public void testGetInfoAsyncCompletesWithTheFolderInfo() throws IOException {
+        final String folderID = "12345";
+        final String folderInfoURL = "/2.0/folders/" + folderID;
+
+        String result = TestConfig.getFixture("BoxFolder/GetFolderInfo200");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderInfoURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        BoxFolder folder = new BoxFolder(this.api, folderID);
+        BoxFolder.Info info = folder.getInfoAsync().join();
+
+        assertEquals(folderID, info.getID());
+        assertEquals("Example Folder", info.getName());
+    }
+
+    @Test
+    public void testUpdateInfoAsyncUpdatesTheInfoAndSendsCorrectJson() throws IOException {
+        final String folderID = "12345";
+        final String folderURL = "/2.0/folders/" + folderID;
+        final String folderName = "New Folder Name";
+        JsonObject updateFolderObject = new JsonObject()
+            .add("name", folderName);
+
+        String result = TestConfig.getFixture("BoxFolder/UpdateFolderInfo200");
+
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(folderURL))
+            .withRequestBody(WireMock.equalToJson(updateFolderObject.toString()))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        BoxFolder folder = new BoxFolder(this.api, folderID);
+        BoxFolder.Info info = folder.new Info();
+        info.setName(folderName);
+        BoxFolder.Info updatedInfo = folder.updateInfoAsync(info).join();
+
+        assertSame(info, updatedInfo);
+        assertEquals(folderID, info.getID());
+        assertEquals(folderName, info.getName());
+    }
+
+    @Test
+    public void testGetMetadataAsyncCompletesWithTheMetadata() throws IOException {
+        final String folderID = "12345";
+        final String metadataURL = "/2.0/folders/" + folderID + "/metadata/global/properties";
+
+        String result = TestConfig.getFixture("BoxFolder/CreateMetadataOnFolder201");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(metadataURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)));
+
+        BoxFolder folder = new BoxFolder(this.api, folderID);
+        Metadata metadata = folder.getMetadataAsync("properties", "global").join();
+
+        assertEquals("12345", metadata.getID());
+        assertEquals("folder_12345", metadata.getParentID());
+    }
+
+    @Test
+    public void testUpdateMetadataAsyncCompletesExceptionallyWhenTheRequestFails() throws IOException {
+        final String folderID = "12345";
+        final String metadataURL = "/2.0/folders/" + folderID + "/metadata/enterprise/testtemplate";
+
+        String result = TestConfig.getFixture("BoxException/BoxResponseException404");
+
+        wireMockRule.stubFor(WireMock.put(WireMock.urlPathEqualTo(metadataURL))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)
+                .withStatus(404)));
+
+        BoxFolder folder = new BoxFolder(this.api, folderID);
+        Metadata metadata = new Metadata("enterprise", "testtemplate").add("/test1", "text");
+        try {
+            folder.updateMetadataAsync(metadata).join();
+            fail("Expected the failed request to complete the future exceptionally.");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), instanceOf(BoxAPIResponseException.class));
+            assertEquals(404, ((BoxAPIResponseException) e.getCause()).getResponseCode());
+        }
+    }
+
     @Test
     public void testGetAllMetadataSucceeds() throws IOException {
         final String folderID = "12345";
@@ -1245,6 +1383,37 @@ public class BoxFolderTest {
         assertEquals("Test 2", boxItem2.getName());
     }
 
+    @Test
+    public void testGetChildrenProjectionKeepsOnlyTheProjectedFields() throws IOException {
+        final String folderID = "12345";
+        final String folderItemsURL = "/2.0/folders/" + folderID + "/items/";
+
+        String result = TestConfig.getFixture("BoxFolder/GetFolderItemsWithSort200");
+
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderItemsURL))
+            .withQueryParam("fields", WireMock.equalTo("name,sha1"))
+            .withQueryParam("usemarker", WireMock.equalTo("true"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(result)
+                .withStatus(200)));
+
+        BoxFolder folder = new BoxFolder(this.api, folderID);
+        Iterator<BoxItemProjection> iterator = folder.getChildrenProjection("name", "sha1").iterator();
+        BoxItemProjection folderProjection = iterator.next();
+        assertEquals("folder", folderProjection.getType());
+        assertEquals("12345", folderProjection.getID());
+        assertEquals("Test", folderProjection.getName());
+        assertNull(folderProjection.getSha1());
+        assertEquals(BoxItemProjection.UNKNOWN, folderProjection.getSize());
+
+        iterator.next();
+        BoxItemProjection fileProjection = iterator.next();
+        assertEquals("file", fileProjection.getType());
+        assertEquals("Test File.jpg", fileProjection.getName());
+        assertEquals("fcd25218f7190f6d0a07d6ce03e933d3d8270851", fileProjection.getSha1());
+    }
+
     @Test
     public void testGetFolderItemsWithOffsetAndLimit() throws IOException {
         final String folderID = "12345";
@@ -0,0 +1,51 @@
+package com.box.sdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.eclipsesource.json.JsonObject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.junit.Test;
+
+public class BoxJSONResponseTest {
+    private static final String BODY = "{\"name\": \"file.txt\",  \"size\": 5, \"tags\": [\"a\", \"b\"]}";
+
+    @Test
+    public void getJSONReturnsTheBodyAsItWasReceived() throws IOException {
+        HttpURLConnection connection = mockConnection(BODY);
+        BoxJSONResponse response = new BoxJSONResponse(connection);
+
+        assertEquals(BODY, response.getJSON());
+        assertEquals("file.txt", response.getJsonObject().get("name").asString());
+        assertEquals(BODY, response.getJSON());
+        verify(connection).disconnect();
+    }
+
+    @Test
+    public void getJsonObjectParsesTheBodyFromTheConnection() throws IOException {
+        HttpURLConnection connection = mockConnection(BODY);
+        BoxJSONResponse response = new BoxJSONResponse(connection);
+
+        JsonObject jsonObject = response.getJsonObject();
+
+        assertEquals("file.txt", jsonObject.get("name").asString());
+        assertEquals(5, jsonObject.get("size").asInt());
+        assertEquals(2, jsonObject.get("tags").asArray().size());
+        assertSame(jsonObject, response.getJsonObject());
+        assertEquals(jsonObject.toString(), response.getJSON());
+        verify(connection).disconnect();
+    }
+
+    private static HttpURLConnection mockConnection(String body) throws IOException {
+        HttpURLConnection connection = mock(HttpURLConnection.class);
+        when(connection.getResponseCode()).thenReturn(200);
+        when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(body.getBytes(UTF_8)));
+        return connection;
+    }
+}
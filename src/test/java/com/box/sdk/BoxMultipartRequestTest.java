@@ -1,15 +1,25 @@
 package com.box.sdk;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.junit.Test;
 
 
@@ -84,6 +94,66 @@ public class BoxMultipartRequestTest {
         assertEquals(expectedBody, body);
     }
 
+    @Test
+    public void testFileChannelRegionIsWrittenAgainAfterReset() throws Exception {
+        // Setup and Expectations
+        Path file = Files.createTempFile("box-multipart", ".txt");
+        Files.write(file, "skipped test body".getBytes());
+
+        String expectedBody =
+            "--da39a3ee5e6b4b0d3255bfef95601890afd80709\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"testfile\"\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n"
+                + "test body\r\n"
+                + "--da39a3ee5e6b4b0d3255bfef95601890afd80709--";
+
+        // Execute
+        BoxAPIConnection api = new BoxAPIConnection("");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position("skipped ".length());
+            BoxMultipartRequest request = new TestBoxMultipartRequest(api, new URL("http://localhost"));
+            request.setFile(channel, "testfile");
+
+            for (int attempt = 0; attempt < 2; attempt++) {
+                HttpURLConnection mockConnection = mock(HttpURLConnection.class);
+                ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
+                when(mockConnection.getOutputStream()).thenReturn(bodyOutputStream);
+                request.resetBody();
+                request.writeBody(mockConnection, null);
+
+                // Validate
+                assertEquals(expectedBody, bodyOutputStream.toString());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testTruncatedFileFailsWhenTransferredToAChannel() throws Exception {
+        // Setup and Expectations
+        Path file = Files.createTempFile("box-multipart", ".txt");
+        Files.write(file, "test body that is truncated".getBytes());
+        HttpURLConnection mockConnection = mock(HttpURLConnection.class);
+        when(mockConnection.getOutputStream()).thenReturn(new ChannelOutputStream());
+
+        // Execute
+        BoxAPIConnection api = new BoxAPIConnection("");
+        try {
+            BoxMultipartRequest request = new TestBoxMultipartRequest(api, new URL("http://localhost"));
+            request.setFile(file, "testfile");
+            Files.write(file, "test body".getBytes());
+            request.writeBody(mockConnection, null);
+            fail("Expected the truncated file to be reported.");
+        } catch (BoxAPIException e) {
+            // Validate
+            assertThat(e.getCause(), instanceOf(EOFException.class));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     private final class TestBoxMultipartRequest extends BoxMultipartRequest {
         private TestBoxMultipartRequest(BoxAPIConnection api, URL url) {
             super(api, url);
@@ -93,4 +163,20 @@ public class BoxMultipartRequestTest {
             this.writeBody(connection, listener);
         }
     }
+
+    private static final class ChannelOutputStream extends ByteArrayOutputStream implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int length = src.remaining();
+            byte[] bytes = new byte[length];
+            src.get(bytes);
+            this.write(bytes, 0, length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+    }
 }
@@ -4,9 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 
 /**
@@ -153,4 +159,95 @@ public class BoxResourceIterableTest {
         assertEquals(value3, field);
         assertFalse(iterator.hasNext());
     }
+
+    /**
+     * Unit test for {@link BoxResourceIterable.IteratorImpl#next()} with the marker before the entries.
+     */
+    @Test
+    public void testIteratorReadsMarkerBeforeEntriesAndNestedValues() {
+        final URLTemplate urlTemplate = new URLTemplate("endpoint/%s");
+        final int limit = 19;
+
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setRequestInterceptor(new RequestInterceptor() {
+            @Override
+            public BoxAPIResponse onRequest(BoxAPIRequest request) {
+                return new BoxJSONResponse() {
+                    @Override
+                    public String getJSON() {
+                        return "{\"next_marker\": \"marker\", \"entries\":[{\"field\": {\"values\": [1, 2.5, null]}, "
+                            + "\"size\": 12345678901, \"entries\": [true]}], \"limit\": 19}";
+                    }
+                };
+            }
+        });
+
+        BoxResourceIterable<JsonObject> iterable = new BoxResourceIterable<JsonObject>(api,
+            urlTemplate.build(api.getBaseURL(), "0"), limit) {
+            @Override
+            protected JsonObject factory(JsonObject jsonObject) {
+                return jsonObject;
+            }
+        };
+        Iterator<JsonObject> iterator = iterable.iterator();
+
+        assertEquals("marker", iterable.getNextMarker());
+        assertTrue(iterator.hasNext());
+        JsonObject entry = iterator.next();
+        assertEquals(3, entry.get("field").asObject().get("values").asArray().size());
+        assertEquals(2.5, entry.get("field").asObject().get("values").asArray().get(1).asDouble(), 0);
+        assertTrue(entry.get("field").asObject().get("values").asArray().get(2).isNull());
+        assertEquals(12345678901L, entry.get("size").asLong());
+        assertTrue(entry.get("entries").asArray().get(0).asBoolean());
+    }
+
+    @Test
+    public void testIteratorReadsPagesWithTheGlobalJSONCodec() {
+        final URLTemplate urlTemplate = new URLTemplate("endpoint/%s");
+        final AtomicInteger reads = new AtomicInteger();
+        BoxGlobalSettings.setJSONCodec(new BoxJSONCodec() {
+            @Override
+            public JsonValue read(Reader reader) throws IOException {
+                reads.incrementAndGet();
+                return Json.parse(reader);
+            }
+
+            @Override
+            public JsonValue read(String json) {
+                reads.incrementAndGet();
+                return Json.parse(json);
+            }
+
+            @Override
+            public void write(JsonValue value, Writer writer) throws IOException {
+                value.writeTo(writer);
+            }
+        });
+
+        try {
+            BoxAPIConnection api = new BoxAPIConnection("");
+            api.setRequestInterceptor(request -> new BoxJSONResponse() {
+                @Override
+                public String getJSON() {
+                    return "{\"entries\": [{\"id\": \"1\"}, {\"id\": \"2\"}], \"next_marker\": null}";
+                }
+            });
+
+            BoxResourceIterable<JsonObject> iterable = new BoxResourceIterable<JsonObject>(api,
+                urlTemplate.build(api.getBaseURL(), "0"), 2) {
+                @Override
+                protected JsonObject factory(JsonObject jsonObject) {
+                    return jsonObject;
+                }
+            };
+            Iterator<JsonObject> iterator = iterable.iterator();
+
+            assertEquals("1", iterator.next().get("id").asString());
+            assertEquals("2", iterator.next().get("id").asString());
+            assertFalse(iterator.hasNext());
+            assertEquals(1, reads.get());
+        } finally {
+            BoxGlobalSettings.setJSONCodec(null);
+        }
+    }
 }
@@ -82,4 +82,21 @@ public class BoxResourceTest {
         }
     }
 
+    /**
+     * Unit tests for {@link BoxResource#parseInfo(BoxAPIConnection, JsonObject)} with a registered factory.
+     */
+    @Test
+    public void testParseInfoUsesRegisteredFactory() {
+        JsonObject jsonObject = new JsonObject()
+            .add("type", "custom_user")
+            .add("id", "id");
+        Assert.assertNull(BoxResource.parseInfo(null, jsonObject));
+
+        BoxResource.registerInfoFactory("custom_user", (api, id, json) -> new BoxUser(api, id).new Info(json));
+
+        BoxResource.Info resource = BoxResource.parseInfo(null, jsonObject);
+        Assert.assertTrue(resource instanceof BoxUser.Info);
+        Assert.assertEquals("id", resource.getID());
+    }
+
 }
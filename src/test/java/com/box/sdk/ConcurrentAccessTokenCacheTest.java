@@ -0,0 +1,58 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.eclipsesource.json.JsonObject;
+import org.junit.Test;
+
+public class ConcurrentAccessTokenCacheTest {
+    @Test
+    public void getReturnsTheStoredInformation() {
+        ConcurrentAccessTokenCache cache = new ConcurrentAccessTokenCache(10);
+        String info = tokenInfo(System.currentTimeMillis(), 3600000L);
+        cache.put("key", info);
+
+        assertThat(cache.get("key"), is(sameInstance(info)));
+    }
+
+    @Test
+    public void getReturnsNullForAnExpiredToken() {
+        ConcurrentAccessTokenCache cache = new ConcurrentAccessTokenCache(10);
+        cache.put("key", tokenInfo(System.currentTimeMillis() - 10000L, 1000L));
+
+        assertThat(cache.get("key"), is(nullValue()));
+    }
+
+    @Test
+    public void getReturnsInformationWithoutAnExpiryTime() {
+        ConcurrentAccessTokenCache cache = new ConcurrentAccessTokenCache(10);
+        cache.put("key", "not json");
+
+        assertThat(cache.get("key"), is("not json"));
+    }
+
+    @Test
+    public void putRemovesTheLeastRecentlyUsedEntryWhenMaxEntriesIsReached() {
+        ConcurrentAccessTokenCache cache = new ConcurrentAccessTokenCache(2, 1);
+        String info = tokenInfo(System.currentTimeMillis(), 3600000L);
+        cache.put("first", info);
+        cache.put("second", info);
+        cache.get("first");
+        cache.put("third", info);
+
+        assertThat(cache.get("first"), is(info));
+        assertThat(cache.get("second"), is(nullValue()));
+        assertThat(cache.get("third"), is(info));
+    }
+
+    static String tokenInfo(long lastRefresh, long expires) {
+        return new JsonObject()
+            .add("accessToken", "token")
+            .add("lastRefresh", lastRefresh)
+            .add("expires", expires)
+            .toString();
+    }
+}
@@ -10,6 +10,7 @@ import static org.hamcrest.Matchers.not;
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.net.URLDecoder;
+import java.util.Collections;
 import java.util.Date;
 import org.junit.Test;
 
@@ -153,6 +154,27 @@ public class EventLogTest {
         assertThat(eventLog.getNextStreamPosition(), is("1152923112788365709"));
     }
 
+    @Test
+    public void createEventLogKeepsOnlyEventsOfTheGivenTypes() {
+        BoxAPIConnection api = new BoxAPIConnection("");
+        api.setLazyInfoDecoding(true);
+        JsonObject json = Json.parse(
+            "{\"next_stream_position\": 2, \"chunk_size\": 2, \"entries\": ["
+                + "{\"type\": \"event\", \"event_id\": \"1\", \"event_type\": \"LOGIN\","
+                + " \"created_at\": \"2019-02-02T21:48:38Z\","
+                + " \"created_by\": {\"type\": \"user\", \"id\": \"12345\", \"name\": \"Example User\"}},"
+                + "{\"type\": \"event\", \"event_id\": \"2\", \"event_type\": \"DOWNLOAD\"}"
+                + "]}"
+        ).asObject();
+        EventLog eventLog = new EventLog(api, json, null, 10, Collections.singleton("LOGIN"));
+
+        assertThat(eventLog.getSize(), is(1));
+        BoxEvent event = eventLog.iterator().next();
+        assertThat(event.getEventType(), is(LOGIN));
+        assertThat(event.getCreatedBy().getName(), is("Example User"));
+        assertThat(event.getCreatedAt(), is(new Date(1549144118000L)));
+    }
+
     @Test
     public void getEnterpriseEventsTypesAsString() {
         final Date after = new Date(0L);
@@ -0,0 +1,65 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemAccessTokenCacheTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void cachesSharingADirectorySeeEachOthersEntries() throws IOException {
+        Path directory = this.folder.newFolder().toPath();
+        String info = ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis(), 3600000L);
+        new FileSystemAccessTokenCache(directory).put("/agent/client/user/1", info);
+
+        FileSystemAccessTokenCache cache = new FileSystemAccessTokenCache(directory);
+
+        assertThat(cache.get("/agent/client/user/1"), is(info));
+        assertThat(cache.get("/agent/client/user/2"), is(nullValue()));
+    }
+
+    @Test
+    public void getReturnsNullForAnExpiredToken() throws IOException {
+        FileSystemAccessTokenCache cache = new FileSystemAccessTokenCache(this.folder.newFolder().toPath());
+        cache.put("key", ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis() - 10000L, 1000L));
+
+        assertThat(cache.get("key"), is(nullValue()));
+    }
+
+    @Test
+    public void putIfNewerKeepsTheTokenThatExpiresLast() throws IOException {
+        FileSystemAccessTokenCache cache = new FileSystemAccessTokenCache(this.folder.newFolder().toPath());
+        long now = System.currentTimeMillis();
+        String newer = ConcurrentAccessTokenCacheTest.tokenInfo(now, 3600000L);
+        String older = ConcurrentAccessTokenCacheTest.tokenInfo(now - 60000L, 3600000L);
+
+        assertThat(cache.putIfNewer("key", newer, now + 3600000L), is(true));
+        assertThat(cache.putIfNewer("key", older, now - 60000L + 3600000L), is(false));
+        assertThat(cache.get("key"), is(newer));
+    }
+
+    @Test
+    public void getAllReturnsOnlyCachedEntries() throws IOException {
+        FileSystemAccessTokenCache cache = new FileSystemAccessTokenCache(this.folder.newFolder().toPath());
+        String info = ConcurrentAccessTokenCacheTest.tokenInfo(System.currentTimeMillis(), 3600000L);
+        cache.put("first", info);
+        cache.put("third", info);
+
+        Map<String, String> entries = cache.getAllAsync(Arrays.asList("first", "second", "third")).join();
+
+        assertThat(entries.size(), is(2));
+        assertThat(entries, hasEntry("first", info));
+        assertThat(entries, hasEntry("third", info));
+    }
+}